@@ -12,10 +12,25 @@ public class AdjListsGraph<T> implements Graph<T>
     // instance variables
     Vector<T> vertices; 
     Vector<LinkedList<T>> arcs; 
+    // position of each vertex in the vertices vector, kept in sync with it
+    HashMap<T, Integer> indices; 
+    // successors of each vertex as a set, parallel to arcs, for constant time arc checks
+    Vector<HashSet<T>> arcSets; 
+    // reverse adjacency lists, parallel to arcs; their sizes are the indegrees
+    Vector<LinkedList<T>> predecessors; 
+    int numArcs; 
+    // compact copy of this graph for the analytics, dropped whenever the graph changes
+    CompactGraph snapshot; 
+    // working memory of the searches, reused from one search to the next
+    TraversalContext traversal; 
 
     public AdjListsGraph(){
         arcs = new Vector<LinkedList<T>>();
         vertices = new Vector<T>(); 
+        indices = new HashMap<T, Integer>(); 
+        arcSets = new Vector<HashSet<T>>(); 
+        predecessors = new Vector<LinkedList<T>>(); 
+        numArcs = 0; 
     }
 
     /**
@@ -40,6 +55,7 @@ public class AdjListsGraph<T> implements Graph<T>
      */
     public void setArcs(Vector<LinkedList<T>> arcs) {
         this.arcs = arcs; 
+        rebuildIndex(); 
     }
 
     /**
@@ -48,6 +64,46 @@ public class AdjListsGraph<T> implements Graph<T>
      */
     public void setVertices(Vector<T> vertices) {
         this.vertices = vertices; 
+        rebuildIndex(); 
+    }
+
+    /**
+     * Looks up the position of a vertex in the vertices vector in constant time
+     * @param vertex the vertex to look up
+     * @return the index of the vertex, or -1 if it is not in this graph
+     */
+    int indexOf(T vertex) {
+        Integer index = indices.get(vertex); 
+        return index == null ? -1 : index; 
+    }
+
+    /**
+     * Recomputes the index map, the successor sets, the predecessor lists and the
+     * arc count from the vertices and arcs vectors, after one of them was replaced
+     */
+    private void rebuildIndex() {
+        snapshot = null; 
+        indices = new HashMap<T, Integer>(); 
+        for (int i = 0; i < vertices.size(); i++) {
+            // keep the first position of a vertex, like Vector.indexOf does
+            indices.putIfAbsent(vertices.get(i), i); 
+        }
+        arcSets = new Vector<HashSet<T>>(); 
+        predecessors = new Vector<LinkedList<T>>(); 
+        numArcs = 0; 
+        for (int i = 0; i < vertices.size(); i++) {
+            predecessors.add(new LinkedList<T>()); 
+        }
+        for (int i = 0; i < arcs.size(); i++) {
+            arcSets.add(new HashSet<T>(arcs.get(i))); 
+            for (T successor : arcs.get(i)) {
+                int j = indexOf(successor); 
+                if (j != -1 && i < vertices.size()) {
+                    predecessors.get(j).add(vertices.get(i)); 
+                }
+                numArcs++; 
+            }
+        }
     }
 
     /**
@@ -55,19 +111,36 @@ public class AdjListsGraph<T> implements Graph<T>
      * @return a neatly-formatted string of the information of the AdjListsGraph objec
      */
     public String toString() {
-        String result = "Vertices: \n ["; 
-        for (int i = 0; i < vertices.size(); i++) {
-            result += vertices.get(i) + ", "; 
+        StringBuilder result = new StringBuilder(); 
+        try {
+            writeTo(result); 
         }
-        result += "]\nEdges:\n"; 
+        catch (IOException e) {
+            // a StringBuilder never throws
+            throw new UncheckedIOException(e); 
+        }
+        return result.toString(); 
+    }
+
+    /**
+     * Writes the same description as toString() to a stream, a piece at a time, so that
+     * large graphs can be printed without building the whole description in memory
+     * @param out where to write the description of this graph
+     * @throws IOException if out cannot be written to
+     */
+    public void writeTo(Appendable out) throws IOException {
+        out.append("Vertices: \n ["); 
+        for (T vertex : vertices) {
+            out.append(String.valueOf(vertex)).append(", "); 
+        }
+        out.append("]\nEdges:\n"); 
         for (int i = 0; i < arcs.size(); i++) {
-            result += "from " + vertices.get(i) + ": ["; 
-            for (int j = 0; j < arcs.get(i).size(); j++) {
-                result += arcs.get(i).get(j); 
+            out.append("from ").append(String.valueOf(vertices.get(i))).append(": ["); 
+            for (T successor : arcs.get(i)) {
+                out.append(String.valueOf(successor)); 
             }
-            result += "]\n"; 
+            out.append("]\n"); 
         }
-        return result; 
     }
 
     /** 
@@ -97,13 +170,7 @@ public class AdjListsGraph<T> implements Graph<T>
      * @return the number of arcs in this graph
      *  */
     public int getNumArcs() {
-        int count = 0; 
-        for (int i = 0; i < arcs.size(); i++) {
-            for (int j = 0; j < arcs.get(i).size(); j++) {
-                count++; 
-            }
-        }
-        return count; 
+        return numArcs; 
     }
 
     /** 
@@ -115,11 +182,11 @@ public class AdjListsGraph<T> implements Graph<T>
      * 
      *  */
     public boolean isArc (T vertex1, T vertex2) {
-        if (!vertices.contains(vertex1)){
+        int vert1_index = indexOf(vertex1); 
+        if (vert1_index == -1){
             return false; 
         }
-        int vert1_index = vertices.indexOf(vertex1); 
-        return (arcs.get(vert1_index).contains(vertex2)); 
+        return (arcSets.get(vert1_index).contains(vertex2)); 
     }
 
     /** 
@@ -162,9 +229,13 @@ public class AdjListsGraph<T> implements Graph<T>
      * @param The vertex to be added to this graph
      * */
     public void addVertex (T vertex) {
-        if (!vertices.contains(vertex)) {
+        if (!indices.containsKey(vertex)) {
+            snapshot = null; 
+            indices.put(vertex, vertices.size()); 
             vertices.add(vertex);
             arcs.add(new LinkedList<T>());
+            arcSets.add(new HashSet<T>()); 
+            predecessors.add(new LinkedList<T>()); 
         }
     }
 
@@ -175,10 +246,31 @@ public class AdjListsGraph<T> implements Graph<T>
      * @param the vertex to be removed from this graph
      *  */
     public void removeVertex (T vertex) {
-        if (vertices.contains(vertex)) {
-            int index = vertices.indexOf(vertex);
-            vertices.remove(vertex); 
+        int index = indexOf(vertex);
+        if (index != -1) {
+            snapshot = null; 
+            // drop the arcs leaving and entering the vertex, so no degree counts a removed vertex
+            for (T successor : arcs.get(index)) {
+                predecessors.get(indexOf(successor)).remove(vertex); 
+            }
+            for (T predecessor : predecessors.get(index)) {
+                int i = indexOf(predecessor); 
+                if (i != index) {
+                    arcs.get(i).remove(vertex); 
+                    arcSets.get(i).remove(vertex); 
+                    numArcs--; 
+                }
+            }
+            numArcs -= arcs.get(index).size(); 
+            vertices.remove(index); 
             arcs.remove(index);
+            arcSets.remove(index); 
+            predecessors.remove(index); 
+            indices.remove(vertex); 
+            // every vertex after the removed one moved down by one position
+            for (int i = index; i < vertices.size(); i++) {
+                indices.put(vertices.get(i), i); 
+            }
         }
     }
 
@@ -192,14 +284,34 @@ public class AdjListsGraph<T> implements Graph<T>
      * 
      *  */
     public void addArc (T vertex1, T vertex2) {
-        if (vertices.contains(vertex1) && vertices.contains(vertex2)) {
-            int vert1_index = vertices.indexOf(vertex1); 
-            if (!arcs.get(vert1_index).contains(vertex2)) {
+        int vert1_index = indexOf(vertex1); 
+        if (vert1_index != -1 && indices.containsKey(vertex2)) {
+            if (arcSets.get(vert1_index).add(vertex2)) {
+                snapshot = null; 
                 arcs.get(vert1_index).add(vertex2); 
+                predecessors.get(indexOf(vertex2)).add(vertices.get(vert1_index)); 
+                numArcs++; 
             }
         }
     }
 
+    /**
+     * Inserts an arc between the vertices at two given positions of the vertices vector,
+     * without looking either vertex up. Same as addArc(vertices.get(from), vertices.get(to)).
+     * 
+     * @param from the position of the origin of the arc
+     * @param to the position of the destination of the arc
+     */
+    void addArcAt(int from, int to) {
+        T vertex2 = vertices.get(to); 
+        if (arcSets.get(from).add(vertex2)) {
+            snapshot = null; 
+            arcs.get(from).add(vertex2); 
+            predecessors.get(to).add(vertices.get(from)); 
+            numArcs++; 
+        }
+    }
+
     /** 
      * Removes the arc between two given vertices of this graph.
      * If one of the two vertices does not exist in the graph,
@@ -210,10 +322,13 @@ public class AdjListsGraph<T> implements Graph<T>
      * 
      * */
     public void removeArc (T vertex1, T vertex2) {
-        if (vertices.contains(vertex1) && vertices.contains(vertex2)) {
-            int vert1_index = vertices.indexOf(vertex1); 
-            if (arcs.get(vert1_index).contains(vertex2)) {
+        int vert1_index = indexOf(vertex1); 
+        if (vert1_index != -1 && indices.containsKey(vertex2)) {
+            if (arcSets.get(vert1_index).remove(vertex2)) {
+                snapshot = null; 
                 arcs.get(vert1_index).remove(vertex2); 
+                predecessors.get(indexOf(vertex2)).remove(vertex1); 
+                numArcs--; 
             }
         }
     }
@@ -253,7 +368,7 @@ public class AdjListsGraph<T> implements Graph<T>
      *
      * */
     public LinkedList<T> getSuccessors(T vertex) {
-        return arcs.get(vertices.indexOf(vertex));
+        return arcs.get(indexOf(vertex));
     }
 
     /** 
@@ -262,17 +377,34 @@ public class AdjListsGraph<T> implements Graph<T>
      * 
      * @param A vertex in the graph whose predecessors will be returned.
      * @return LinkedList containing all the vertices x in the graph,
-     * for which an arc exists from x to the given vertex (x -> vertex).
+     * for which an arc exists from x to the given vertex (x -> vertex),
+     * in the order those arcs were added.
      * 
      * */
     public LinkedList<T> getPredecessors(T vertex) {
-        LinkedList<T> predecessors = new LinkedList<T>();
-        for(int i=0; i<arcs.size(); i++){
-            if (arcs.get(i).contains(vertex)){
-                predecessors.add(vertices.get(i));
-            }
+        int index = indexOf(vertex); 
+        if (index == -1) {
+            return new LinkedList<T>(); 
         }
-        return predecessors;
+        return new LinkedList<T>(predecessors.get(index));
+    }
+
+    /**
+     * Gets the number of arcs leaving a vertex
+     * @param vertex a vertex in the graph
+     * @return the outdegree of the vertex
+     */
+    public int getOutdegree(T vertex) {
+        return arcs.get(indexOf(vertex)).size(); 
+    }
+
+    /**
+     * Gets the number of arcs entering a vertex
+     * @param vertex a vertex in the graph
+     * @return the indegree of the vertex
+     */
+    public int getIndegree(T vertex) {
+        return predecessors.get(indexOf(vertex)).size(); 
     }
 
     /** 
@@ -283,16 +415,20 @@ public class AdjListsGraph<T> implements Graph<T>
      * */
     public void saveToTGF(String tgf_file_name) {
         try {
-            PrintWriter writer = new PrintWriter(new File(tgf_file_name));
+            PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(tgf_file_name), 1 << 16));
             for (int i=0; i<vertices.size(); i++){
-                int vertNum = i+1;
-                writer.println(vertNum + " " + vertices.get(i));
+                writer.print(i+1);
+                writer.print(' ');
+                writer.println(vertices.get(i));
             }
             writer.println("#");
             for (int j=0; j<arcs.size(); j++){
                 int vert = j+1;
-                for (int k=0; k<arcs.get(j).size(); k++){
-                    writer.println(vert + " " + (vertices.indexOf(arcs.get(j).get(k))+1)); 
+                // walk the list with its iterator, get(k) on a LinkedList starts over every time
+                for (T successor : arcs.get(j)){
+                    writer.print(vert);
+                    writer.print(' ');
+                    writer.println(indexOf(successor)+1); 
                 }
             }
             writer.close();
@@ -303,97 +439,256 @@ public class AdjListsGraph<T> implements Graph<T>
     }
 
     /**
-     * Implements the depth first search algorithm
-     * @param vertex the starting vertex 
-     * @return a linked list describing the order of traversal 
+     * Gets a CompactGraph copy of this graph, in which every vertex has the same index as
+     * in the vertices vector. The copy is kept until this graph is changed through its methods,
+     * so repeated analytics on an unchanged graph only pay for it once. The searches between two
+     * vertices do not build it: while it is out of date they walk the adjacency lists instead,
+     * so a graph that is changed between single searches never pays for a whole copy.
+     * @return the compact snapshot of this graph
      */
-    public LinkedList<T> DepthFirstSearch(T vertex, T end_vert) {
-        ArrayStack<T> traversalStack = new ArrayStack<T>(); 
-        LinkedList<T> result = new LinkedList<T>();
-        boolean[] visited = new boolean[this.getNumVertices()];
-        T currentVertex = vertex; 
-        boolean found; 
-
-        // initialize the visited array to have all "false" to start with
-        for (int i = 0; i < visited.length; i++) {
-            visited[i] = false; 
-        }
-
-        // push the origin vertex onto the traversal stack, add it to the result, mark it as visited
-        traversalStack.push(currentVertex); 
-        result.add(currentVertex); 
-        visited[vertices.indexOf(currentVertex)] = true; 
-
-        while (!traversalStack.isEmpty() && currentVertex != end_vert) {
-            // set the current vertex to the first successor of the currentVertex
-            currentVertex = traversalStack.peek(); 
-            found = false; 
-
-            // get the first successor of the current vertex and test if it has been visited
-            for (int i = 0; i < this.getSuccessors(currentVertex).size() && !found; i++) {
-                T vert = this.getSuccessors(currentVertex).get(i); 
-                if (!visited[vertices.indexOf(vert)]) {
-                    traversalStack.push(vert); 
-                    result.add(vert); 
-                    visited[vertices.indexOf(vert)] = true; 
-                    found = true; 
-                    break; // break out so that you can go to the adjacency list of what you pushed onto the traversal stack
-                }
-            }
+    public CompactGraph toCompactGraph() {
+        if (snapshot == null) {
+            snapshot = CompactGraph.fromGraph(this); 
+        }
+        return snapshot; 
+    }
 
-            if (!found && !traversalStack.isEmpty()) {
-                traversalStack.pop(); 
-            }
+    /**
+     * Runs a single breadth first search from a vertex, computing the hop distance to
+     * every vertex and the BFS tree in one O(V+E) pass
+     * @param vertex the starting vertex
+     * @return the distances and parents of all vertices, indexed like the vertices vector
+     * @throws IllegalArgumentException if vertex is not in this graph
+     */
+    public BFSResult breadthFirstTree(T vertex) {
+        return toCompactGraph().breadthFirstTree(indexOfStart(vertex)); 
+    }
+
+    /**
+     * Runs a single breadth first search from a vertex, choosing how the frontier is expanded.
+     * Bottom-up levels scan the predecessors of unvisited vertices instead of the successors
+     * of frontier vertices, which looks at far fewer arcs once the frontier reaches the hubs.
+     * @param vertex the starting vertex
+     * @param mode TOP_DOWN, BOTTOM_UP or DIRECTION_OPTIMIZING
+     * @return the distances and parents of all vertices, and the number of arcs looked at per mode
+     * @throws IllegalArgumentException if vertex is not in this graph
+     */
+    public BFSResult breadthFirstTree(T vertex, SearchMode mode) {
+        return toCompactGraph().breadthFirstTree(indexOfStart(vertex), mode); 
+    }
+
+    /**
+     * Gets the index of the vertex a search starts from, which must be in this graph
+     */
+    private int indexOfStart(T vertex) {
+        int index = indexOf(vertex); 
+        if (index == -1) {
+            throw new IllegalArgumentException(vertex + " is not a vertex of this graph"); 
+        }
+        return index; 
+    }
+
+    /**
+     * Computes the eccentricity of every vertex, and the radius, diameter, center and periphery
+     * of this graph, with parallel multi-source breadth first searches
+     * @return the eccentricities, indexed like the vertices vector
+     */
+    public Eccentricities getEccentricities() {
+        return new Eccentricities(toCompactGraph()); 
+    }
+
+    /**
+     * Finds the weakly connected components of this graph: the groups of vertices that are
+     * connected when the direction of the arcs is ignored
+     * @return the weak components, indexed like the vertices vector
+     */
+    public Components getWeakComponents() {
+        return toCompactGraph().getWeakComponents(); 
+    }
+
+    /**
+     * Finds the strongly connected components of this graph: the groups of vertices that can
+     * all reach each other
+     * @return the strong components, indexed like the vertices vector
+     */
+    public Components getStrongComponents() {
+        return toCompactGraph().getStrongComponents(); 
+    }
+
+    /**
+     * Gets the hop distance from one vertex to another. With an up to date snapshot this returns
+     * at once if they are not connected, and otherwise searches from both ends.
+     * @param vertex the starting vertex
+     * @param end_vert the vertex to reach
+     * @return the length of a shortest path between them, or -1 if end_vert cannot be reached
+     * (or either vertex is not in this graph)
+     */
+    public int getDistance(T vertex, T end_vert) {
+        int from = indexOf(vertex); 
+        int to = indexOf(end_vert); 
+        if (from == -1 || to == -1) {
+            return -1; 
+        }
+        if (snapshot == null) {
+            TraversalContext context = traversalContext(); 
+            breadthFirstVisit(from, to, context); 
+            return context.isVisited(to) ? pathFromParents(to, context).size() - 1 : -1; 
+        }
+        return snapshot.distance(from, to, traversalContext()); 
+    }
+
+    /**
+     * Finds a shortest path from one vertex to another. With an up to date snapshot it searches
+     * forward from vertex along the successors and backward from end_vert along the predecessors
+     * until the two searches meet, which usually visits far fewer vertices than a breadth first
+     * search from vertex alone; otherwise it runs that breadth first search over the adjacency lists.
+     * @param vertex the starting vertex
+     * @param end_vert the vertex to reach
+     * @return the vertices on the path, from vertex to end_vert (empty if end_vert cannot be
+     * reached, or either vertex is not in this graph)
+     */
+    public LinkedList<T> getShortestPath(T vertex, T end_vert) {
+        LinkedList<T> result = new LinkedList<T>(); 
+        int from = indexOf(vertex); 
+        int to = indexOf(end_vert); 
+        if (from == -1 || to == -1) {
+            return result; 
+        }
+        if (snapshot == null) {
+            TraversalContext context = traversalContext(); 
+            breadthFirstVisit(from, to, context); 
+            return context.isVisited(to) ? pathFromParents(to, context) : result; 
+        }
+        int[] path = snapshot.shortestPath(from, to, traversalContext()); 
+        for (int i = 0; i < path.length; i++) {
+            result.add(vertices.get(path[i])); 
         }
         return result; 
     }
 
     /**
-     * Implements the breadth first search algorithm
+     * Implements the depth first search algorithm, following the successors of every vertex
+     * in order and stopping as soon as end_vert is visited
+     * @param vertex the starting vertex 
+     * @param end_vert the vertex to stop at
+     * @return a linked list describing the order of traversal (empty if vertex is not in this graph)
+     */
+    public LinkedList<T> DepthFirstSearch(T vertex, T end_vert) {
+        int start = indexOf(vertex); 
+        if (start == -1) {
+            return new LinkedList<T>(); 
+        }
+        TraversalContext context = traversalContext(); 
+        if (snapshot == null) {
+            depthFirstVisit(start, indexOf(end_vert), context); 
+        } else {
+            snapshot.depthFirstVisit(start, indexOf(end_vert), context); 
+        }
+        return visitedVertices(context); 
+    }
+
+    /**
+     * Implements the breadth first search algorithm, stopping as soon as end_vert is visited
      * @param vertex the starting vertex
-     * @return a linked list describing the order of traversal
+     * @param end_vert the vertex to stop at
+     * @return a linked list describing the order of traversal (empty if vertex is not in this graph)
      */
     public LinkedList<T> BreadthFirstSearch(T vertex, T end_vert) {
-        LinkedQueue<T> traversalQueue = new LinkedQueue<T>(); 
-        LinkedList<T> result = new LinkedList<T>(); 
+        int start = indexOf(vertex); 
+        if (start == -1) {
+            return new LinkedList<T>(); 
+        }
+        TraversalContext context = traversalContext(); 
+        if (snapshot == null) {
+            breadthFirstVisit(start, indexOf(end_vert), context); 
+        } else {
+            snapshot.breadthFirstVisit(start, indexOf(end_vert), context); 
+        }
+        return visitedVertices(context); 
+    }
 
-        // array of booleans to keep track of visited vertices
-        boolean[] visited = new boolean[this.getNumVertices()]; 
-        for (int i = 0; i < this.getNumVertices(); i++) {
-            visited[i] = false; 
-        }
-
-        /* push the first vertex onto the traversal stack, 
-        add it to the result and mark the vertex as visited*/
-        traversalQueue.enqueue(vertex); 
-        visited[vertices.indexOf(vertex)] = true; 
-        result.add(vertex); 
-        T currentVertex = vertex;  
-        T currentSuc = vertex; 
-        while (!traversalQueue.isEmpty()) {
-            /* get the successors of the current vertex */
-            LinkedList<T> suc = getSuccessors(currentVertex);
-            for (int i = 0; i < suc.size() && (!currentSuc.equals(end_vert)); i++) {
-                currentSuc = suc.get(i); 
-                //System.out.println("curSuc: " + currentSuc); 
-                /* if the successor hasn't been visited, 
-                 * push it onto the traversal stack and mark it as visited */
-                if (!visited[vertices.indexOf(currentSuc)]) {
-                    traversalQueue.enqueue(currentSuc);
-                    visited[vertices.indexOf(currentSuc)] = true; 
+    /**
+     * Depth first search straight over the adjacency lists, used while the snapshot is out of
+     * date: it visits the vertices in the same order as the snapshot's search, in time
+     * proportional to what it reaches instead of rebuilding the whole snapshot first
+     */
+    private void depthFirstVisit(int start, int end, TraversalContext context) {
+        context.begin(vertices.size()); 
+        context.visit(start); 
+        if (start == end) {
+            return; 
+        }
+        ArrayDeque<Iterator<T>> stack = new ArrayDeque<Iterator<T>>(); 
+        stack.push(arcs.get(start).iterator()); 
+        while (!stack.isEmpty()) {
+            Iterator<T> successors = stack.peek(); 
+            if (!successors.hasNext()) {
+                stack.pop(); 
+                continue; 
+            }
+            int vert = indexOf(successors.next()); 
+            if (context.visit(vert)) {
+                if (vert == end) {
+                    return; 
                 }
+                stack.push(arcs.get(vert).iterator()); 
             }
-            traversalQueue.dequeue(); 
-            /* set the current vertex to be the next vertex
-            after the recently popped vertex, add it to the result list */ 
-            if (traversalQueue.size() > 0) {
-                currentVertex = traversalQueue.first(); 
-                result.add(currentVertex); 
-                if (currentVertex.equals(end_vert)) {
-                    return result; 
+        }
+    }
+
+    /**
+     * Breadth first search straight over the adjacency lists, used while the snapshot is out of
+     * date, remembering the parent of every visited vertex; like depthFirstVisit it only pays
+     * for what it reaches
+     */
+    private void breadthFirstVisit(int start, int end, TraversalContext context) {
+        context.begin(vertices.size()); 
+        context.visit(start, -1); 
+        if (start == end) {
+            return; 
+        }
+        while (!context.isQueueEmpty()) {
+            int v = context.dequeue(); 
+            for (T successor : arcs.get(v)) {
+                int suc = indexOf(successor); 
+                if (context.visit(suc, v) && suc == end) {
+                    return; 
                 }
             }
-        }     
+        }
+    }
+
+    /**
+     * Lists the vertices on the way from the start of the last breadth first search to a vertex it visited
+     */
+    private LinkedList<T> pathFromParents(int vertex, TraversalContext context) {
+        LinkedList<T> path = new LinkedList<T>(); 
+        for (int v = vertex; v != -1; v = context.getParent(v)) {
+            path.addFirst(vertices.get(v)); 
+        }
+        return path; 
+    }
+
+    /**
+     * Gets the traversal context this graph searches in, which is kept between searches so
+     * that they allocate nothing but their results. Like the rest of this graph, it is not
+     * meant for searches from several threads at once.
+     */
+    private TraversalContext traversalContext() {
+        if (traversal == null) {
+            traversal = new TraversalContext(vertices.size()); 
+        }
+        return traversal; 
+    }
+
+    /**
+     * Lists the vertices visited by the last search of a context, in visiting order
+     */
+    private LinkedList<T> visitedVertices(TraversalContext context) {
+        LinkedList<T> result = new LinkedList<T>(); 
+        for (int i = 0; i < context.getCount(); i++) {
+            result.add(vertices.get(context.getVisited(i))); 
+        }
         return result; 
     }
 
@@ -413,21 +708,15 @@ public class AdjListsGraph<T> implements Graph<T>
     }
 
     /**
-     * Loops through the linked lists of arcs of an AdjListsGraph object, gets the indegrees of each vertex,  
+     * Loops through the predecessor lists of an AdjListsGraph object, gets the indegrees of each vertex,  
      * collects those indegrees in a queue
-     * @return a LinkedQueue containing all of the outdegrees 
+     * @return a LinkedQueue containing all of the indegrees 
      */
     public LinkedQueue<Integer> getIndegrees() {
         LinkedQueue<Integer> inQ = new LinkedQueue<Integer>(); 
-        int size = arcs.size(); 
+        int size = predecessors.size(); 
         for (int i = 0; i < size; i++) {
-            int in_deg = 0; 
-            for (int j = 0; j < size; j++) {
-                if (arcs.get(j).contains(vertices.get(i))) {
-                    in_deg++; 
-                }
-            }
-            inQ.enqueue(in_deg); 
+            inQ.enqueue(predecessors.get(i).size()); 
         }
         return inQ; 
     }  
@@ -474,6 +763,8 @@ public class AdjListsGraph<T> implements Graph<T>
         System.out.println("Performs depth first search on graph 3 from vertex 1 to 6; should be '1 2 3 4 5 6': " + graph3.DepthFirstSearch(1, 6).toString()); 
         System.out.println("Performs breadth first search on graph 3 from vertex 1 to 6; should be '1 2 3 5 4 6': " + graph3.BreadthFirstSearch(1, 6).toString());
         System.out.println("Performs breadth first search on graph 3 from vertex 1 to 4: should be '1 2 3 5 4': " + graph3.BreadthFirstSearch(1, 4).toString()); 
+        System.out.println("Shortest path on graph 3 from vertex 1 to 6; should be '1 2 5 6': " + graph3.getShortestPath(1, 6).toString()); 
+        System.out.println("Shortest path on graph 3 from vertex 4 to 1; should be empty: " + graph3.getShortestPath(4, 1).toString()); 
         System.out.println("List of outdegrees of graph 3: \n" + graph3.getOutdegrees().toString()); 
         System.out.println("list of indegrees of graph 3: \n" + graph3.getIndegrees().toString());
         System.out.println("\n"); 
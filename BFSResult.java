@@ -0,0 +1,143 @@
+/**
+ * The result of a single-source breadth first search: the hop distance from the source to
+ * every vertex and the parent of every vertex in the BFS tree, as primitive arrays indexed
+ * by vertex. Eccentricity, the furthest vertices and shortest paths are all read off these
+ * arrays without searching again.
+ *
+ * @version 10/17/26
+ */
+import java.util.Arrays;
+public class BFSResult
+{
+    // distance of a vertex that cannot be reached from the source
+    public static final int UNREACHABLE = -1;
+
+    // instance variables
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+    private final int reached;
+    private final int eccentricity;
+    // arcs looked at while expanding the frontier top-down and bottom-up
+    private final long topDownArcs;
+    private final long bottomUpArcs;
+
+    /**
+     * Constructor for objects of class BFSResult. The arrays are used as they are, not copied.
+     * @param source the index of the vertex the search started from
+     * @param distances the hop distance of every vertex from source, or UNREACHABLE
+     * @param parents the vertex every vertex was discovered from, or -1 for the source and unreached vertices
+     * @param reached the number of vertices reached, the source included
+     * @param eccentricity the largest distance of a reached vertex
+     * @param topDownArcs the number of arcs looked at in top-down levels
+     * @param bottomUpArcs the number of arcs looked at in bottom-up levels
+     */
+    BFSResult(int source, int[] distances, int[] parents, int reached, int eccentricity, long topDownArcs, long bottomUpArcs) {
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+        this.reached = reached;
+        this.eccentricity = eccentricity;
+        this.topDownArcs = topDownArcs;
+        this.bottomUpArcs = bottomUpArcs;
+    }
+
+    /**
+     * Gets the vertex the search started from
+     * @return the index of the source
+     */
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the hop distance from the source to a vertex
+     * @param vertex the index of the vertex
+     * @return the length of a shortest path from the source to vertex, or UNREACHABLE
+     */
+    public int getDistance(int vertex) {
+        return distances[vertex];
+    }
+
+    /**
+     * Gets the parent of a vertex in the BFS tree
+     * @param vertex the index of the vertex
+     * @return the vertex before vertex on a shortest path from the source, or -1
+     */
+    public int getParent(int vertex) {
+        return parents[vertex];
+    }
+
+    /**
+     * Gets the distances of all vertices; callers must not modify the array
+     * @return the distance of every vertex from the source, or UNREACHABLE
+     */
+    public int[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * Gets the number of vertices that can be reached from the source
+     * @return the number of reached vertices, the source included
+     */
+    public int getNumReached() {
+        return reached;
+    }
+
+    /**
+     * Gets the eccentricity of the source: how far away the furthest reachable vertex is
+     * @return the largest distance from the source to a vertex it can reach
+     */
+    public int getEccentricity() {
+        return eccentricity;
+    }
+
+    /**
+     * Gets how many arcs the search looked at while expanding the frontier top-down
+     * @return the number of successor arcs scanned
+     */
+    public long getTopDownArcs() {
+        return topDownArcs;
+    }
+
+    /**
+     * Gets how many arcs the search looked at while expanding the frontier bottom-up
+     * @return the number of predecessor arcs scanned
+     */
+    public long getBottomUpArcs() {
+        return bottomUpArcs;
+    }
+
+    /**
+     * Gets the vertices that are furthest away from the source, among those it can reach
+     * @return the indices of the vertices at distance getEccentricity(), in index order
+     */
+    public int[] getFurthest() {
+        int[] furthest = new int[distances.length];
+        int count = 0;
+        for (int v = 0; v < distances.length; v++) {
+            if (distances[v] == eccentricity) {
+                furthest[count++] = v;
+            }
+        }
+        return Arrays.copyOf(furthest, count);
+    }
+
+    /**
+     * Gets a shortest path from the source to a vertex, following parents back from it
+     * @param vertex the index of the end of the path
+     * @return the indices of the vertices on the path, source first, or an empty array if
+     * vertex cannot be reached
+     */
+    public int[] getPath(int vertex) {
+        if (distances[vertex] == UNREACHABLE) {
+            return new int[0];
+        }
+        int[] path = new int[distances[vertex] + 1];
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = vertex;
+            vertex = parents[vertex];
+        }
+        return path;
+    }
+}
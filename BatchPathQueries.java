@@ -0,0 +1,187 @@
+/**
+ * Answers many "how far is X from Y" questions at once, each with a shortest path found by
+ * a bidirectional breadth first search. Every question becomes a task on an
+ * executor, by default the common fork/join pool, whose idle workers steal queued tasks from
+ * busy ones, so a batch keeps every core busy. The graph is an immutable CompactGraph snapshot
+ * that all tasks share without locking. Each task borrows a TraversalContext from a pool kept by
+ * this object, so no search allocates its own arrays; the pool never holds more contexts than
+ * the number of tasks that ever ran at the same time.
+ *
+ * Answers are handed out as a stream in the order the searches finish, not the order the
+ * questions were asked; every answer carries the position of its question in the batch.
+ *
+ * @version 10/17/26
+ */
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+public class BatchPathQueries
+{
+    // instance variables
+    private final CompactGraph graph;
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<TraversalContext> contexts;
+
+    /**
+     * Constructor for objects of class BatchPathQueries, running the searches on the common
+     * fork/join pool
+     * @param graph the graph to search, which must not change while questions are answered
+     */
+    public BatchPathQueries(CompactGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for objects of class BatchPathQueries, running the searches on the given
+     * executor, such as a pool of a chosen size or, on Java 21, a virtual thread per task
+     * @param graph the graph to search, which must not change while questions are answered
+     * @param executor runs one task per question
+     */
+    public BatchPathQueries(CompactGraph graph, Executor executor) {
+        this.graph = graph;
+        this.executor = executor;
+        this.contexts = new ConcurrentLinkedQueue<TraversalContext>();
+    }
+
+    /**
+     * The answer to one question: a shortest path from a source person to a target person
+     */
+    public static class Answer
+    {
+        // instance variables
+        private final int position;
+        private final String source;
+        private final String target;
+        private final LinkedList<String> path;
+        private final int explored;
+
+        /**
+         * Constructor for objects of class Answer
+         * @param position the position of the question in its batch
+         * @param source the name of the source person
+         * @param target the name of the target person
+         * @param path the people on a shortest path from source to target, empty if there is none
+         * @param explored the number of people the search visited
+         */
+        Answer(int position, String source, String target, LinkedList<String> path, int explored) {
+            this.position = position;
+            this.source = source;
+            this.target = target;
+            this.path = path;
+            this.explored = explored;
+        }
+
+        /**
+         * Gets the position of the question in its batch
+         * @return the index of the question in the list of questions
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Gets the person the path starts from
+         * @return the name of the source
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Gets the person the path goes to
+         * @return the name of the target
+         */
+        public String getTarget() {
+            return target;
+        }
+
+        /**
+         * Gets the hop distance from the source to the target
+         * @return the length of a shortest path, or -1 if there is none (or either person is not in the graph)
+         */
+        public int getDistance() {
+            return path.size() - 1;
+        }
+
+        /**
+         * Gets a shortest path from the source to the target
+         * @return the people on the path, from source to target (empty if there is none)
+         */
+        public LinkedList<String> getPath() {
+            return path;
+        }
+
+        /**
+         * Gets the number of people the search visited to find the path
+         * @return the number of people visited from either end
+         */
+        public int getExplored() {
+            return explored;
+        }
+
+        /**
+         * Formats this answer
+         * @return the source, the target, their distance and the path
+         */
+        public String toString() {
+            return source + " -> " + target + ": " + getDistance() + " " + path;
+        }
+    }
+
+    /**
+     * Starts answering a batch of questions, all of which run concurrently
+     * @param pairs the questions, each an array {source name, target name}
+     * @return the answers, one per question, in the order they are found; taking the next
+     * answer waits until a search finishes
+     */
+    public Stream<Answer> query(List<String[]> pairs) {
+        LinkedBlockingQueue<CompletableFuture<Answer>> done = new LinkedBlockingQueue<CompletableFuture<Answer>>();
+        for (int i = 0; i < pairs.size(); i++) {
+            int position = i;
+            String[] pair = pairs.get(i);
+            CompletableFuture<Answer> future = CompletableFuture.supplyAsync(() -> answer(position, pair[0], pair[1]), executor);
+            future.whenComplete((result, error) -> done.add(future));
+        }
+        return Stream.generate(() -> take(done).join()).limit(pairs.size());
+    }
+
+    /**
+     * Answers one question with a context borrowed from the pool
+     */
+    private Answer answer(int position, String source, String target) {
+        int from = graph.getIndex(source);
+        int to = graph.getIndex(target);
+        if (from == -1 || to == -1) {
+            return new Answer(position, source, target, new LinkedList<String>(), 0);
+        }
+        TraversalContext context = contexts.poll();
+        if (context == null) {
+            context = new TraversalContext(graph.getNumVertices());
+        }
+        try {
+            int[] path = graph.shortestPath(from, to, context);
+            LinkedList<String> names = new LinkedList<String>();
+            for (int i = 0; i < path.length; i++) {
+                names.add(graph.getName(path[i]));
+            }
+            return new Answer(position, source, target, names, context.getExplored());
+        }
+        finally {
+            contexts.add(context);
+        }
+    }
+
+    /**
+     * Waits for the next finished search
+     */
+    private static CompletableFuture<Answer> take(LinkedBlockingQueue<CompletableFuture<Answer>> done) {
+        try {
+            return done.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted while waiting for an answer");
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * Reads a file line by line straight from a large byte buffer, without Scanner's regular
+ * expressions and without creating a String per line. The current line is the bytes
+ * bytes[start] .. bytes[end-1] (line terminator excluded); it usually points right into the
+ * read buffer and is only copied when it crosses the end of the buffer. Callers pick the
+ * fields they need out of the line with indexOf, decode and parseInt.
+ *
+ * @version 10/17/26
+ */
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+class ByteLineReader
+{
+    // size of the read buffer used by open(String)
+    static final int BUFFER_SIZE = 1 << 20;
+
+    // instance variables
+    private final InputStream in;
+    private final byte[] buffer;
+    private int pos;
+    private int limit;
+    // holds a line that crossed the end of the buffer
+    private byte[] spill;
+    // number of bytes of the input consumed so far, up to the end of the current line
+    private long position;
+    private boolean terminated;
+
+    // the current line
+    byte[] bytes;
+    int start;
+    int end;
+
+    /**
+     * Constructor for objects of class ByteLineReader
+     * @param in the stream to read from
+     * @param bufferSize the size of the read buffer in bytes
+     */
+    ByteLineReader(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+        this.spill = new byte[256];
+    }
+
+    /**
+     * Opens a file for reading with a BUFFER_SIZE buffer
+     * @param fileName the name of the file to read
+     * @return a reader positioned at the start of the file
+     * @throws FileNotFoundException if the file does not exist
+     */
+    static ByteLineReader open(String fileName) throws FileNotFoundException {
+        return new ByteLineReader(new FileInputStream(fileName), BUFFER_SIZE);
+    }
+
+    /**
+     * Moves to the next line of the input
+     * @return true if there was another line, false at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    boolean nextLine() throws IOException {
+        int spilled = 0;
+        while (true) {
+            if (pos == limit) {
+                limit = Math.max(in.read(buffer, 0, buffer.length), 0);
+                pos = 0;
+                if (limit == 0) {
+                    // last line of the input, without a line terminator
+                    terminated = false;
+                    return spilled > 0 && setLine(spill, 0, spilled);
+                }
+            }
+            int i = pos;
+            while (i < limit && buffer[i] != '\n') {
+                i++;
+            }
+            if (i < limit) {
+                position += i + 1 - pos;
+                terminated = true;
+                if (spilled == 0) {
+                    setLine(buffer, pos, i);
+                } else {
+                    spilled = append(spilled, pos, i);
+                    setLine(spill, 0, spilled);
+                }
+                pos = i + 1;
+                return true;
+            }
+            position += limit - pos;
+            spilled = append(spilled, pos, limit);
+            pos = limit;
+        }
+    }
+
+    /**
+     * Copies part of the read buffer to the end of the spill buffer
+     * @return the new length of the spilled line
+     */
+    private int append(int spilled, int from, int to) {
+        int length = to - from;
+        if (spilled + length > spill.length) {
+            spill = Arrays.copyOf(spill, Math.max(spill.length * 2, spilled + length));
+        }
+        System.arraycopy(buffer, from, spill, spilled, length);
+        return spilled + length;
+    }
+
+    /**
+     * Points the current line at a range of bytes, dropping a trailing carriage return
+     */
+    private boolean setLine(byte[] array, int from, int to) {
+        if (to > from && array[to - 1] == '\r') {
+            to--;
+        }
+        bytes = array;
+        start = from;
+        end = to;
+        return true;
+    }
+
+    /**
+     * Finds a byte in the current line
+     * @param b the byte to look for
+     * @param from the position to start looking at
+     * @return the position of the first b at or after from, or -1 if there is none
+     */
+    int indexOf(byte b, int from) {
+        for (int i = from; i < end; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips spaces and tabs in the current line
+     * @param from the position to start at
+     * @return the position of the first byte at or after from that is not a space or tab
+     */
+    int skipBlanks(int from) {
+        while (from < end && (bytes[from] == ' ' || bytes[from] == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Finds the end of a token (a run of bytes other than spaces and tabs) in the current line
+     * @param from the position of the first byte of the token
+     * @return the position right after the token
+     */
+    int endOfToken(int from) {
+        while (from < end && bytes[from] != ' ' && bytes[from] != '\t') {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Decodes part of the current line as UTF-8 text
+     * @param from the position of the first byte
+     * @param to the position after the last byte
+     * @return the decoded String
+     */
+    String decode(int from, int to) {
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a non-negative decimal integer out of the current line, skipping
+     * any spaces or tabs around it
+     * @param from the position of the first byte
+     * @param to the position after the last byte
+     * @return the parsed integer
+     * @throws NumberFormatException if the range does not hold a number
+     */
+    int parseInt(int from, int to) {
+        from = skipBlanks(from);
+        while (to > from && (bytes[to - 1] == ' ' || bytes[to - 1] == '\t')) {
+            to--;
+        }
+        if (from == to) {
+            throw new NumberFormatException("empty number in: " + decode(start, end));
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("not a number: " + decode(from, to));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the number of bytes read so far, up to and including the end of the current line
+     * @return the byte offset of the start of the next line
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Tells whether the current line ended with a line terminator. Only the last line of
+     * the input can lack one, for example while another program is still appending to it.
+     * @return true if the current line was terminated
+     */
+    boolean isTerminated() {
+        return terminated;
+    }
+
+    /**
+     * Closes the input
+     * @throws IOException if the input cannot be closed
+     */
+    void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,491 @@
+/**
+ * Reads a CSV file with RFC 4180 quoting on all cores. Fields may be quoted, and quoted fields
+ * may hold commas, line breaks and doubled quotes (""), which stand for one quote. The first
+ * record is the header. Only the columns asked for are decoded into Strings.
+ *
+ * The file is cut into byte ranges of about CHUNK_SIZE bytes, and each range is moved to a
+ * record boundary. Since every quote opens or closes a quoted section, a line break is a record
+ * boundary exactly when an even number of quotes comes before it. A first parallel pass counts
+ * the quotes in every range and, for both possible parities at the start of the range, finds
+ * its first line break. Adding up the counts then tells which of the two is the real boundary.
+ * A second parallel pass parses the records between the boundaries.
+ *
+ * Records are handed to the caller in file order, on the caller's thread. At most WINDOW ranges
+ * are scanned or parsed at the same time, so memory use does not grow with the file; a reader
+ * made with a smaller chunk size and window uses less memory, whatever the number of cores.
+ *
+ * @version 10/17/26
+ */
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+public class CSVReader
+{
+    // bytes per range parsed by one task
+    public static final int CHUNK_SIZE = 8 << 20;
+    // ranges scanned or parsed at the same time
+    static final int WINDOW = 2 * Runtime.getRuntime().availableProcessors();
+
+    // instance variables
+    private final String fileName;
+    private final int chunkSize;
+    private final int window;
+    private final String[] header;
+    // byte offset of the first record after the header
+    private final long dataStart;
+    private final boolean headerComplete;
+    // byte offset right after the last record handed out by the last read
+    private long end;
+
+    /**
+     * Constructor for objects of class CSVReader, reads the header of the file
+     * @param fileName the name of the CSV file
+     * @throws IOException if the file cannot be read
+     */
+    public CSVReader(String fileName) throws IOException {
+        this(fileName, CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor for objects of class CSVReader, reads the header of the file
+     * @param fileName the name of the CSV file
+     * @param chunkSize about how many bytes each parallel task parses
+     * @throws IOException if the file cannot be read
+     */
+    public CSVReader(String fileName, int chunkSize) throws IOException {
+        this(fileName, chunkSize, WINDOW);
+    }
+
+    /**
+     * Constructor for objects of class CSVReader, reads the header of the file
+     * @param fileName the name of the CSV file
+     * @param chunkSize about how many bytes each parallel task parses
+     * @param window how many ranges may be scanned or parsed at the same time
+     * @throws IOException if the file cannot be read
+     */
+    public CSVReader(String fileName, int chunkSize, int window) throws IOException {
+        this.fileName = fileName;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.window = Math.max(window, 1);
+        FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+        try {
+            // the header ends at the first line break with an even number of quotes before it
+            long size = channel.size();
+            long position = 0;
+            boolean quoted = false;
+            long headerEnd = -1;
+            byte[] buffer = new byte[1 << 16];
+            while (headerEnd < 0 && position < size) {
+                int length = read(channel, position, buffer, (int) Math.min(buffer.length, size - position));
+                for (int i = 0; i < length; i++) {
+                    if (buffer[i] == '"') {
+                        quoted = !quoted;
+                    } else if (buffer[i] == '\n' && !quoted) {
+                        headerEnd = position + i;
+                        break;
+                    }
+                }
+                position += length;
+            }
+            long length = headerEnd < 0 ? size : headerEnd;
+            byte[] bytes = new byte[(int) length];
+            read(channel, 0, bytes, bytes.length);
+            this.header = split(bytes);
+            // a header without a line break is not complete yet, so there are no records after it
+            this.dataStart = headerEnd < 0 ? size : headerEnd + 1;
+            this.headerComplete = headerEnd >= 0;
+            this.end = dataStart;
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads bytes from a position of a file, until the array is filled or the file ends
+     * @return the number of bytes read
+     */
+    private static int read(FileChannel channel, long position, byte[] bytes, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer, position + buffer.position());
+            if (count < 0) {
+                break;
+            }
+        }
+        return buffer.position();
+    }
+
+    /**
+     * Decodes a field as UTF-8, dropping a trailing carriage return at the end of a record and
+     * unquoting it if it has quotes
+     */
+    private static String decode(byte[] bytes, int from, int to, boolean endOfRecord, boolean hasQuotes) {
+        if (endOfRecord && to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        if (!hasQuotes) {
+            return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        }
+        byte[] text = new byte[to - from];
+        int length = 0;
+        boolean quoted = false;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != '"') {
+                text[length++] = bytes[i];
+            } else if (quoted && i + 1 < to && bytes[i + 1] == '"') {
+                // a doubled quote inside quotes is one quote
+                text[length++] = '"';
+                i++;
+            } else {
+                quoted = !quoted;
+            }
+        }
+        return new String(text, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Splits one record into its fields, with the same quoting rules as the files read
+     * @param record the text of the record, without its line break
+     * @return every field of the record, unquoted
+     */
+    public static String[] split(String record) {
+        return split(record.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits the UTF-8 bytes of one record into its fields
+     */
+    private static String[] split(byte[] bytes) {
+        ArrayList<String> fields = new ArrayList<String>();
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i <= bytes.length; i++) {
+            if (i < bytes.length && bytes[i] == '"') {
+                quoted = !quoted;
+            } else if (i == bytes.length || (bytes[i] == ',' && !quoted)) {
+                fields.add(decode(bytes, start, i, i == bytes.length, true));
+                start = i + 1;
+            }
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Gets the names of the columns
+     * @return a new array with the fields of the first record
+     */
+    public String[] getHeader() {
+        return header.clone();
+    }
+
+    /**
+     * Finds a column by its name in the header
+     * @param name the name of the column
+     * @return the index of the first column with that name, or -1 if there is none
+     */
+    public int getColumn(String name) {
+        for (int i = 0; i < header.length; i++) {
+            if (header[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds columns by their names in the header
+     * @param names the names of the columns
+     * @return the index of every column
+     * @throws IllegalArgumentException if the header has no column of one of the names
+     */
+    public int[] getColumns(String... names) {
+        int[] columns = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            columns[i] = getColumn(names[i]);
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("no column " + names[i] + " in " + fileName);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Gets the byte offset of the first record after the header
+     * @return the offset where the records start
+     */
+    public long getDataStart() {
+        return dataStart;
+    }
+
+    /**
+     * Tells whether the header is followed by a line break. A file whose only line has none may
+     * still be being written, so its header may not be complete yet.
+     * @return true if the header ends with a line break
+     */
+    public boolean isHeaderComplete() {
+        return headerComplete;
+    }
+
+    /**
+     * Gets the byte offset right after the last record handed out by the last read, where a
+     * later read can resume
+     * @return the offset after the last record read
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Reads every record after the header
+     * @param columns the indices of the columns wanted
+     * @param sink receives the wanted fields of every record, in file order and in the order of columns;
+     * a field the record does not have is null. The array is reused from record to record.
+     * @return the number of records read (blank lines are skipped)
+     * @throws IOException if the file cannot be read
+     */
+    public long read(int[] columns, Consumer<String[]> sink) throws IOException {
+        return read(dataStart, false, columns, sink);
+    }
+
+    /**
+     * Reads the records from a byte offset on
+     * @param start the offset of the first record to read, such as getDataStart() or the getEnd() of an earlier read
+     * @param terminatedOnly true to leave out a last record that is not followed by a line break,
+     * because another program may still be writing it
+     * @param columns the indices of the columns wanted
+     * @param sink receives the wanted fields of every record, in file order and in the order of columns;
+     * a field the record does not have is null. The array is reused from record to record.
+     * @return the number of records read (blank lines are skipped)
+     * @throws IOException if the file cannot be read
+     */
+    public long read(long start, boolean terminatedOnly, int[] columns, Consumer<String[]> sink) throws IOException {
+        // slotOf[c] is the position of column c in the arrays handed to sink, or -1
+        int width = 0;
+        for (int i = 0; i < columns.length; i++) {
+            width = Math.max(width, columns[i] + 1);
+        }
+        int[] slotOf = new int[width];
+        Arrays.fill(slotOf, -1);
+        for (int i = 0; i < columns.length; i++) {
+            slotOf[columns[i]] = i;
+        }
+        FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            long[] boundaries = findBoundaries(channel, start, size);
+            int segments = boundaries.length - 1;
+            String[] record = new String[columns.length];
+            long rows = 0;
+            end = start;
+            ArrayDeque<CompletableFuture<Segment>> parsing = new ArrayDeque<CompletableFuture<Segment>>();
+            int next = 0;
+            try {
+                while (next < segments && parsing.size() < window) {
+                    parsing.add(parseLater(channel, boundaries, next++, terminatedOnly, slotOf, columns.length));
+                }
+                while (!parsing.isEmpty()) {
+                    Segment segment = join(parsing.poll());
+                    if (next < segments) {
+                        parsing.add(parseLater(channel, boundaries, next++, terminatedOnly, slotOf, columns.length));
+                    }
+                    for (int r = 0; r < segment.rows; r++) {
+                        System.arraycopy(segment.fields, r * columns.length, record, 0, columns.length);
+                        sink.accept(record);
+                    }
+                    rows += segment.rows;
+                    end = segment.end;
+                }
+            }
+            finally {
+                for (CompletableFuture<Segment> future : parsing) {
+                    future.cancel(false);
+                }
+            }
+            return rows;
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Cuts the bytes from start to size into ranges that begin and end on record boundaries
+     * @return the offsets of the boundaries, start first and size last
+     */
+    private long[] findBoundaries(FileChannel channel, long start, long size) throws IOException {
+        if (start >= size) {
+            return new long[] { start };
+        }
+        int chunks = (int) Math.max(1, (size - start + chunkSize - 1) / chunkSize);
+        // for every chunk: its number of quotes, and its first line break after an even and an odd number of them
+        long[][] scans = new long[chunks][];
+        try {
+            // at most window chunks are read at the same time
+            for (int first = 0; first < chunks; first += window) {
+                IntStream.range(first, Math.min(chunks, first + window)).parallel().forEach(chunk -> {
+                    long from = start + (long) chunk * chunkSize;
+                    int length = (int) Math.max(0, Math.min(chunkSize, size - from));
+                    byte[] bytes = new byte[length];
+                    long[] scan = { 0, -1, -1 };
+                    try {
+                        length = read(channel, from, bytes, length);
+                    }
+                    catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    for (int i = 0; i < length; i++) {
+                        if (bytes[i] == '"') {
+                            scan[0]++;
+                        } else if (bytes[i] == '\n' && scan[1 + (int) (scan[0] & 1)] < 0) {
+                            scan[1 + (int) (scan[0] & 1)] = from + i;
+                            if (scan[1] >= 0 && scan[2] >= 0) {
+                                // only the quote count is still needed
+                                for (int j = i + 1; j < length; j++) {
+                                    if (bytes[j] == '"') {
+                                        scan[0]++;
+                                    }
+                                }
+                                break;
+                            }
+                        }
+                    }
+                    scans[chunk] = scan;
+                });
+            }
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long[] boundaries = new long[chunks + 1];
+        int count = 0;
+        boundaries[count++] = start;
+        long quotes = 0;
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            quotes += scans[chunk - 1][0];
+            long lineBreak = scans[chunk][1 + (int) (quotes & 1)];
+            if (lineBreak >= 0) {
+                boundaries[count++] = lineBreak + 1;
+            }
+        }
+        boundaries[count++] = size;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Starts parsing a range of records on the common fork/join pool
+     */
+    private CompletableFuture<Segment> parseLater(FileChannel channel, long[] boundaries, int index,
+                                                  boolean terminatedOnly, int[] slotOf, int width) {
+        boolean last = index == boundaries.length - 2;
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return parse(channel, boundaries[index], boundaries[index + 1], last && terminatedOnly, slotOf, width);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Waits for a range to be parsed, passing on its exceptions
+     */
+    private static Segment join(CompletableFuture<Segment> future) throws IOException {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The records of one range of the file: the wanted fields of every record, one record after the other
+     */
+    private static class Segment
+    {
+        String[] fields;
+        int rows;
+        // offset right after the last record kept
+        long end;
+    }
+
+    /**
+     * Parses the records between two record boundaries
+     * @param dropUnterminated true to leave out a last record without a line break
+     */
+    private static Segment parse(FileChannel channel, long from, long to, boolean dropUnterminated,
+                                 int[] slotOf, int width) throws IOException {
+        byte[] bytes = new byte[(int) (to - from)];
+        int length = read(channel, from, bytes, bytes.length);
+        Segment segment = new Segment();
+        segment.fields = new String[Math.max(width, 16 * width)];
+        segment.end = from;
+        int column = 0;
+        int fieldStart = 0;
+        int recordStart = 0;
+        boolean quoted = false;
+        boolean hasQuotes = false;
+        for (int i = 0; i <= length; i++) {
+            byte b = i < length ? bytes[i] : (byte) '\n';
+            if (i < length && b == '"') {
+                quoted = !quoted;
+                hasQuotes = true;
+                continue;
+            }
+            if (quoted && i < length) {
+                continue;
+            }
+            if (b != ',' && b != '\n') {
+                continue;
+            }
+            boolean endOfRecord = b == '\n';
+            if (i == length && (recordStart == length || dropUnterminated)) {
+                // nothing after the last line break, or a last record that may not be complete
+                break;
+            }
+            if (column < slotOf.length && slotOf[column] >= 0) {
+                if (segment.rows * width + width > segment.fields.length) {
+                    segment.fields = Arrays.copyOf(segment.fields, segment.fields.length * 2);
+                }
+                segment.fields[segment.rows * width + slotOf[column]] = decode(bytes, fieldStart, i, endOfRecord, hasQuotes);
+            }
+            column++;
+            fieldStart = i + 1;
+            hasQuotes = false;
+            if (endOfRecord) {
+                boolean blank = column == 1 && (i == recordStart || (i == recordStart + 1 && bytes[recordStart] == '\r'));
+                if (blank) {
+                    if (width > 0) {
+                        Arrays.fill(segment.fields, segment.rows * width, segment.rows * width + width, null);
+                    }
+                } else {
+                    segment.rows++;
+                    if (segment.rows * width + width > segment.fields.length) {
+                        segment.fields = Arrays.copyOf(segment.fields, segment.fields.length * 2);
+                    }
+                }
+                segment.end = from + Math.min(i + 1, length);
+                column = 0;
+                recordStart = i + 1;
+                quoted = false;
+            }
+        }
+        return segment;
+    }
+}
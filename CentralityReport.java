@@ -0,0 +1,181 @@
+/**
+ * Compares the distributions of in-degree, out-degree and path length of the people of every
+ * gender in every domain, rather than a single average over everyone. The path length of a
+ * person is their eccentricity: how many links it takes to reach the furthest person they can
+ * reach at all (people who link to no one have none and are left out of it).
+ *
+ * Every metric of every gender and domain is summarized in a QuantileSketch, so the report uses
+ * the same memory whatever the size of the graph. The vertices are split into chunks that are
+ * sketched in parallel, each chunk filling its own sketches, and the sketches are merged at the
+ * end. Vertices whose name is not in the table of people are left out and counted.
+ *
+ * @version 10/17/26
+ */
+import java.util.stream.IntStream;
+public class CentralityReport
+{
+    /**
+     * The metrics sketched for every gender and domain
+     */
+    public enum Metric { IN_DEGREE, OUT_DEGREE, PATH_LENGTH }
+
+    // vertices per parallel task
+    static final int CHUNK = 4096;
+    // the quantiles printed by toString
+    static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+    // instance variables
+    private final DictionaryColumn genders;
+    private final DictionaryColumn domains;
+    // sketches[(g * numDomains + d) * metrics + m] summarizes metric m of gender code g in domain code d
+    private final QuantileSketch[] sketches;
+    private final int numGenders;
+    private final int numDomains;
+    private final int unmatched;
+
+    /**
+     * Constructor for objects of class CentralityReport, computing the eccentricities of the graph
+     * @param graph the link graph, whose vertices are named after people
+     * @param people the table giving the gender and domain of the people
+     */
+    public CentralityReport(CompactGraph graph, PersonTable people) {
+        this(graph, people, new Eccentricities(graph));
+    }
+
+    /**
+     * Constructor for objects of class CentralityReport
+     * @param graph the link graph, whose vertices are named after people
+     * @param people the table giving the gender and domain of the people
+     * @param eccentricities the eccentricities of the graph, if they were already computed
+     */
+    public CentralityReport(CompactGraph graph, PersonTable people, Eccentricities eccentricities) {
+        this.genders = people.getGenders();
+        this.domains = people.getDomains();
+        this.numGenders = genders.getNumValues();
+        this.numDomains = domains.getNumValues();
+        int n = graph.getNumVertices();
+        int[] rows = people.getRows(graph);
+        int keys = numGenders * numDomains;
+        int metrics = Metric.values().length;
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        QuantileSketch[] merged = IntStream.range(0, chunks).parallel()
+            .mapToObj(chunk -> {
+                QuantileSketch[] partial = newSketches(keys * metrics);
+                for (int v = chunk * CHUNK; v < Math.min(n, (chunk + 1) * CHUNK); v++) {
+                    if (rows[v] < 0) {
+                        continue;
+                    }
+                    int key = (genders.getCode(rows[v]) * numDomains + domains.getCode(rows[v])) * metrics;
+                    partial[key + Metric.IN_DEGREE.ordinal()].add(graph.getIndegree(v));
+                    partial[key + Metric.OUT_DEGREE.ordinal()].add(graph.getOutdegree(v));
+                    if (graph.getOutdegree(v) > 0) {
+                        partial[key + Metric.PATH_LENGTH.ordinal()].add(eccentricities.getEccentricity(v));
+                    }
+                }
+                return partial;
+            })
+            .reduce(newSketches(keys * metrics), (a, b) -> {
+                QuantileSketch[] sum = newSketches(keys * metrics);
+                for (int i = 0; i < sum.length; i++) {
+                    sum[i].merge(a[i]);
+                    sum[i].merge(b[i]);
+                }
+                return sum;
+            });
+        this.sketches = merged;
+        int missing = 0;
+        for (int v = 0; v < n; v++) {
+            if (rows[v] < 0) {
+                missing++;
+            }
+        }
+        this.unmatched = missing;
+    }
+
+    /**
+     * Creates an array of empty sketches
+     */
+    private static QuantileSketch[] newSketches(int count) {
+        QuantileSketch[] result = new QuantileSketch[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new QuantileSketch();
+        }
+        return result;
+    }
+
+    /**
+     * Gets the sketch of a metric for a gender in a domain, or for a gender across all domains,
+     * or for everyone in a domain, or for everyone
+     * @param gender the gender, or null for all genders
+     * @param domain the domain, or null for all domains
+     * @param metric the metric
+     * @return a new sketch of the metric over the matching people (empty if there are none)
+     */
+    public QuantileSketch getSketch(String gender, String domain, Metric metric) {
+        QuantileSketch result = new QuantileSketch();
+        int metrics = Metric.values().length;
+        int genderCode = gender == null ? -1 : genders.getCodeOf(gender);
+        int domainCode = domain == null ? -1 : domains.getCodeOf(domain);
+        if ((gender != null && (genderCode < 0 || genderCode >= numGenders))
+            || (domain != null && (domainCode < 0 || domainCode >= numDomains))) {
+            return result;
+        }
+        for (int g = 0; g < numGenders; g++) {
+            for (int d = 0; d < numDomains; d++) {
+                if ((genderCode < 0 || g == genderCode) && (domainCode < 0 || d == domainCode)) {
+                    result.merge(sketches[(g * numDomains + d) * metrics + metric.ordinal()]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets an estimate of a quantile of a metric for a gender in a domain
+     * @param gender the gender, or null for all genders
+     * @param domain the domain, or null for all domains
+     * @param metric the metric
+     * @param q the quantile, between 0 and 1
+     * @return the estimated quantile, or NaN if there are no such people
+     */
+    public double getQuantile(String gender, String domain, Metric metric, double q) {
+        return getSketch(gender, domain, metric).getQuantile(q);
+    }
+
+    /**
+     * Gets the number of vertices left out because their name is not in the table of people
+     * @return the number of vertices left out
+     */
+    public int getUnmatched() {
+        return unmatched;
+    }
+
+    /**
+     * Formats the report as a table
+     * @return one line per metric, domain and gender: the number of people, then p50, p90 and p99
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("metric\tdomain\tgender\tcount");
+        for (int i = 0; i < QUANTILES.length; i++) {
+            result.append("\tp").append(Math.round(QUANTILES[i] * 100));
+        }
+        result.append('\n');
+        for (Metric metric : Metric.values()) {
+            for (int d = 0; d < numDomains; d++) {
+                for (int g = 0; g < numGenders; g++) {
+                    QuantileSketch sketch = sketches[(g * numDomains + d) * Metric.values().length + metric.ordinal()];
+                    if (sketch.getCount() == 0) {
+                        continue;
+                    }
+                    result.append(metric).append('\t').append(domains.getValue(d)).append('\t')
+                        .append(genders.getValue(g)).append('\t').append(sketch.getCount());
+                    for (int i = 0; i < QUANTILES.length; i++) {
+                        result.append(String.format("\t%.1f", sketch.getQuantile(QUANTILES[i])));
+                    }
+                    result.append('\n');
+                }
+            }
+        }
+        return result.toString();
+    }
+}
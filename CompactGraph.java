@@ -0,0 +1,748 @@
+/**
+ * An immutable, compressed sparse row (CSR) snapshot of a directed graph.
+ * Vertices are numbered 0..n-1 and named through a dictionary of Strings; the successors
+ * of vertex i are targets[offsets[i]] .. targets[offsets[i+1]-1], in the same order as
+ * in the adjacency list they were built from. Every arc costs one int, so the full
+ * Pantheon edge set fits in a normal heap.
+ *
+ * @version 10/17/26
+ */
+import java.util.*;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+public class CompactGraph
+{
+    // instance variables
+    private final String[] names;
+    // UTF-8 names not decoded yet (null when every name is already in names)
+    private final ByteBuffer nameTable;
+    private final int[] nameOffsets;
+    // built on the first lookup by name
+    private volatile HashMap<String, Integer> ids;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] indegrees;
+    // predecessor CSR (offsets, then sources), built the first time it is needed
+    private volatile int[][] reverse;
+    // components, found the first time they are needed
+    private volatile Components weakComponents;
+    private volatile Components strongComponents;
+
+    // a direction-optimizing search goes bottom-up once the frontier has more than 1/ALPHA of
+    // the unexplored arcs, and back top-down once it holds fewer than 1/BETA of the vertices
+    static final int ALPHA = 14;
+    static final int BETA = 24;
+
+    /**
+     * Constructor for objects of class CompactGraph. The arrays are used as they are, not copied.
+     * @param names the name of every vertex, by index
+     * @param offsets n+1 offsets into targets, one run of successors per vertex
+     * @param targets the index of the destination of every arc
+     */
+    CompactGraph(String[] names, int[] offsets, int[] targets) {
+        this(names, null, null, offsets, targets);
+    }
+
+    /**
+     * Constructor for a CompactGraph whose names are decoded from a table of UTF-8 bytes
+     * only when they are asked for, so a graph file can be used without decoding every name.
+     * @param nameTable the UTF-8 bytes of all names, one after the other
+     * @param nameOffsets n+1 offsets into nameTable, one name per vertex
+     * @param offsets n+1 offsets into targets, one run of successors per vertex
+     * @param targets the index of the destination of every arc
+     */
+    CompactGraph(ByteBuffer nameTable, int[] nameOffsets, int[] offsets, int[] targets) {
+        this(new String[offsets.length - 1], nameTable, nameOffsets, offsets, targets);
+    }
+
+    private CompactGraph(String[] names, ByteBuffer nameTable, int[] nameOffsets, int[] offsets, int[] targets) {
+        this.names = names;
+        this.nameTable = nameTable;
+        this.nameOffsets = nameOffsets;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.indegrees = new int[names.length];
+        for (int i = 0; i < targets.length; i++) {
+            indegrees[targets[i]]++;
+        }
+    }
+
+    /**
+     * Takes a snapshot of an AdjListsGraph. Vertices keep their positions and each vertex
+     * keeps the order of its successors, so traversals visit vertices in the same order.
+     * @param graph the graph to take a snapshot of
+     * @return the compact snapshot of graph
+     */
+    public static <T> CompactGraph fromGraph(AdjListsGraph<T> graph) {
+        Vector<T> vertices = graph.getVertices();
+        Vector<LinkedList<T>> arcs = graph.getArcs();
+        int n = vertices.size();
+        String[] names = new String[n];
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            names[i] = String.valueOf(vertices.get(i));
+            offsets[i + 1] = offsets[i] + arcs.get(i).size();
+        }
+        int[] targets = new int[offsets[n]];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (T successor : arcs.get(i)) {
+                targets[k++] = graph.indexOf(successor);
+            }
+        }
+        return new CompactGraph(names, offsets, targets);
+    }
+
+    /**
+     * Builds a snapshot straight from a Wikipedia edge CSV file (a header line, then
+     * "from_name,to_name,..." on every line) without building an AdjListsGraph first.
+     * Vertices are numbered in order of first appearance and repeated arcs are dropped,
+     * exactly like GraphCreator.readFile() does.
+     * @param fileName the name of the CSV file to read
+     * @return the compact graph of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static CompactGraph fromCSV(String fileName) throws IOException {
+        HashMap<String, Integer> ids = new HashMap<String, Integer>();
+        ArrayList<String> names = new ArrayList<String>();
+        ArcList arcs = new ArcList();
+        GraphCreator.readEdges(fileName, (vert1, vert2) -> arcs.add(idOf(vert1, ids, names), idOf(vert2, ids, names)));
+        return fromArcs(names.toArray(new String[names.size()]), arcs.from, arcs.to, arcs.count);
+    }
+
+    /**
+     * A growable list of arcs, kept as two parallel arrays of vertex ids
+     */
+    private static class ArcList
+    {
+        int[] from = new int[1024];
+        int[] to = new int[1024];
+        int count;
+
+        void add(int vert1, int vert2) {
+            if (count == from.length) {
+                from = Arrays.copyOf(from, count * 2);
+                to = Arrays.copyOf(to, count * 2);
+            }
+            from[count] = vert1;
+            to[count] = vert2;
+            count++;
+        }
+    }
+
+    /**
+     * Looks up the id of a name, giving it the next free id if it has not been seen yet
+     */
+    private static int idOf(String name, HashMap<String, Integer> ids, ArrayList<String> names) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+    /**
+     * Builds a snapshot from a list of arcs given as two parallel arrays of vertex ids.
+     * Arcs keep their input order within each vertex, and repeated arcs are dropped.
+     * @param names the name of every vertex, by id
+     * @param from the origin of every arc
+     * @param to the destination of every arc
+     * @param count the number of arcs in from and to
+     * @return the compact graph
+     */
+    static CompactGraph fromArcs(String[] names, int[] from, int[] to, int count) {
+        int n = names.length;
+        // counting sort of the arcs by origin, stable so successor order is kept
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < count; i++) {
+            offsets[from[i] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        int[] targets = new int[count];
+        for (int i = 0; i < count; i++) {
+            targets[next[from[i]]++] = to[i];
+        }
+        // drop repeated arcs, stamping each target with the vertex it was last seen from
+        int[] seenFrom = new int[n];
+        Arrays.fill(seenFrom, -1);
+        int k = 0;
+        int start = 0;
+        for (int v = 0; v < n; v++) {
+            int end = offsets[v + 1];
+            offsets[v] = k;
+            for (int i = start; i < end; i++) {
+                if (seenFrom[targets[i]] != v) {
+                    seenFrom[targets[i]] = v;
+                    targets[k++] = targets[i];
+                }
+            }
+            start = end;
+        }
+        offsets[n] = k;
+        return new CompactGraph(names, offsets, Arrays.copyOf(targets, k));
+    }
+
+    /**
+     * Returns the number of vertices in this graph
+     * @return the number of vertices
+     */
+    public int getNumVertices() {
+        return names.length;
+    }
+
+    /**
+     * Returns the number of arcs in this graph
+     * @return the number of arcs
+     */
+    public int getNumArcs() {
+        return targets.length;
+    }
+
+    /**
+     * Gets the name of a vertex
+     * @param vertex the index of the vertex
+     * @return the name of the vertex
+     */
+    public String getName(int vertex) {
+        String name = names[vertex];
+        if (name == null) {
+            // decoding twice from two threads is harmless, both get the same String
+            byte[] utf8 = new byte[nameOffsets[vertex + 1] - nameOffsets[vertex]];
+            nameTable.get(nameOffsets[vertex], utf8);
+            name = new String(utf8, StandardCharsets.UTF_8);
+            names[vertex] = name;
+        }
+        return name;
+    }
+
+    /**
+     * Gets the index of the vertex with the given name
+     * @param name the name of the vertex
+     * @return the index of the vertex, or -1 if there is no vertex with that name
+     */
+    public int getIndex(String name) {
+        HashMap<String, Integer> map = ids;
+        if (map == null) {
+            synchronized (this) {
+                map = ids;
+                if (map == null) {
+                    map = new HashMap<String, Integer>(names.length * 2);
+                    for (int i = 0; i < names.length; i++) {
+                        map.putIfAbsent(getName(i), i);
+                    }
+                    ids = map;
+                }
+            }
+        }
+        Integer id = map.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the offsets array of this graph; callers must not modify it
+     * @return the n+1 offsets into the targets array
+     */
+    int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Gets the targets array of this graph; callers must not modify it
+     * @return the destination of every arc, grouped by origin
+     */
+    int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * Gets the reverse graph in CSR form, building it on the first call: the predecessors of vertex i
+     * are sources[offsets[i]] .. sources[offsets[i+1]-1], in index order. Callers must not modify it.
+     * @return the arrays {offsets, sources}
+     */
+    int[][] getReverse() {
+        int[][] result = reverse;
+        if (result == null) {
+            synchronized (this) {
+                result = reverse;
+                if (result == null) {
+                    int n = names.length;
+                    int[] predOffsets = new int[n + 1];
+                    for (int v = 0; v < n; v++) {
+                        predOffsets[v + 1] = predOffsets[v] + indegrees[v];
+                    }
+                    int[] next = Arrays.copyOf(predOffsets, n);
+                    int[] sources = new int[targets.length];
+                    for (int v = 0; v < n; v++) {
+                        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                            sources[next[targets[i]]++] = v;
+                        }
+                    }
+                    result = new int[][] { predOffsets, sources };
+                    reverse = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the outdegree of a vertex
+     * @param vertex the index of the vertex
+     * @return the number of arcs leaving the vertex
+     */
+    public int getOutdegree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * Gets the indegree of a vertex
+     * @param vertex the index of the vertex
+     * @return the number of arcs entering the vertex
+     */
+    public int getIndegree(int vertex) {
+        return indegrees[vertex];
+    }
+
+    /**
+     * Gets the outdegrees of all vertices, by index
+     * @return a new array with the outdegree of every vertex
+     */
+    public int[] getOutdegrees() {
+        int[] out = new int[names.length];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = offsets[i + 1] - offsets[i];
+        }
+        return out;
+    }
+
+    /**
+     * Gets the indegrees of all vertices, by index
+     * @return a new array with the indegree of every vertex
+     */
+    public int[] getIndegrees() {
+        return indegrees.clone();
+    }
+
+    /**
+     * Implements the depth first search algorithm, with the same visiting order as
+     * AdjListsGraph.DepthFirstSearch
+     * @param vertex the starting vertex
+     * @param end_vert the vertex to stop at
+     * @return a linked list describing the order of traversal (empty if vertex is not in this graph)
+     */
+    public LinkedList<String> DepthFirstSearch(String vertex, String end_vert) {
+        int start = getIndex(vertex);
+        if (start == -1) {
+            return new LinkedList<String>();
+        }
+        return toNames(depthFirstOrder(start, getIndex(end_vert)));
+    }
+
+    /**
+     * Implements the breadth first search algorithm, with the same visiting order as
+     * AdjListsGraph.BreadthFirstSearch
+     * @param vertex the starting vertex
+     * @param end_vert the vertex to stop at
+     * @return a linked list describing the order of traversal (empty if vertex is not in this graph)
+     */
+    public LinkedList<String> BreadthFirstSearch(String vertex, String end_vert) {
+        int start = getIndex(vertex);
+        if (start == -1) {
+            return new LinkedList<String>();
+        }
+        return toNames(breadthFirstOrder(start, getIndex(end_vert)));
+    }
+
+    /**
+     * Depth first search by index
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to stop at, or -1 to traverse everything reachable
+     * @return the indices of the vertices in the order they were visited
+     */
+    public int[] depthFirstOrder(int start, int end) {
+        TraversalContext context = new TraversalContext(names.length);
+        depthFirstVisit(start, end, context);
+        return context.toArray();
+    }
+
+    /**
+     * Depth first search by index, in the working memory of a context, so that many searches
+     * in a row allocate nothing. The search stops as soon as the end vertex is visited.
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to stop at, or -1 to traverse everything reachable
+     * @param context the context to search in; afterwards it holds the visiting order
+     * @return the number of vertices visited
+     */
+    public int depthFirstVisit(int start, int end, TraversalContext context) {
+        context.begin(names.length);
+        context.visit(start);
+        context.push(start, offsets[start]);
+        if (start == end) {
+            return context.getCount();
+        }
+        while (!context.isStackEmpty()) {
+            int currentVertex = context.peek();
+            boolean found = false;
+            while (context.getCursor(currentVertex) < offsets[currentVertex + 1]) {
+                int vert = targets[context.nextArc(currentVertex)];
+                if (context.visit(vert)) {
+                    if (vert == end) {
+                        return context.getCount();
+                    }
+                    context.push(vert, offsets[vert]);
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                context.pop();
+            }
+        }
+        return context.getCount();
+    }
+
+    /**
+     * Breadth first search by index
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to stop at, or -1 to traverse everything reachable
+     * @return the indices of the vertices in the order they were visited
+     */
+    public int[] breadthFirstOrder(int start, int end) {
+        TraversalContext context = new TraversalContext(names.length);
+        breadthFirstVisit(start, end, context);
+        return context.toArray();
+    }
+
+    /**
+     * Breadth first search by index, in the working memory of a context, so that many searches
+     * in a row allocate nothing. The search stops as soon as the end vertex is visited.
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to stop at, or -1 to traverse everything reachable
+     * @param context the context to search in; afterwards it holds the visiting order
+     * @return the number of vertices visited
+     */
+    public int breadthFirstVisit(int start, int end, TraversalContext context) {
+        context.begin(names.length);
+        context.visit(start);
+        if (start == end) {
+            return context.getCount();
+        }
+        // the visiting order itself is the queue
+        while (!context.isQueueEmpty()) {
+            int v = context.dequeue();
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                if (context.visit(targets[i]) && targets[i] == end) {
+                    return context.getCount();
+                }
+            }
+        }
+        return context.getCount();
+    }
+
+    /**
+     * Single-source breadth first search computing the hop distance to, and the BFS tree
+     * parent of, every vertex in one O(V+E) pass
+     * @param source the index of the starting vertex
+     * @return the distances and parents of all vertices
+     */
+    public BFSResult breadthFirstTree(int source) {
+        return breadthFirstTree(source, SearchMode.TOP_DOWN);
+    }
+
+    /**
+     * Single-source breadth first search computing the hop distance to, and a BFS tree parent of,
+     * every vertex. The distances are the same in every mode; the mode only changes how many arcs
+     * are looked at, which the result counts per mode.
+     * @param source the index of the starting vertex
+     * @param mode how to expand the frontier at each level
+     * @return the distances and parents of all vertices
+     */
+    public BFSResult breadthFirstTree(int source, SearchMode mode) {
+        int n = names.length;
+        int[] distances = new int[n];
+        int[] parents = new int[n];
+        Arrays.fill(distances, BFSResult.UNREACHABLE);
+        Arrays.fill(parents, -1);
+        int[] predOffsets = null;
+        int[] predSources = null;
+        if (mode != SearchMode.TOP_DOWN) {
+            predOffsets = getReverse()[0];
+            predSources = getReverse()[1];
+        }
+        // the queue holds each level's frontier, one after the other
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        distances[source] = 0;
+        long frontierArcs = getOutdegree(source);
+        long unexploredArcs = targets.length - indegrees[source];
+        long topDownArcs = 0;
+        long bottomUpArcs = 0;
+        boolean bottomUp = mode == SearchMode.BOTTOM_UP;
+        int previousSize = 0;
+        int level = 0;
+        while (head < tail) {
+            int levelEnd = tail;
+            int frontierSize = levelEnd - head;
+            if (mode == SearchMode.DIRECTION_OPTIMIZING) {
+                if (!bottomUp && frontierSize > previousSize && frontierArcs > unexploredArcs / ALPHA) {
+                    bottomUp = true;
+                } else if (bottomUp && frontierSize < previousSize && frontierSize < n / BETA) {
+                    bottomUp = false;
+                }
+            }
+            previousSize = frontierSize;
+            frontierArcs = 0;
+            if (bottomUp) {
+                // every unvisited vertex looks for a parent in the current frontier
+                for (int v = 0; v < n; v++) {
+                    if (distances[v] != BFSResult.UNREACHABLE) {
+                        continue;
+                    }
+                    for (int i = predOffsets[v]; i < predOffsets[v + 1]; i++) {
+                        bottomUpArcs++;
+                        if (distances[predSources[i]] == level) {
+                            distances[v] = level + 1;
+                            parents[v] = predSources[i];
+                            queue[tail++] = v;
+                            frontierArcs += getOutdegree(v);
+                            unexploredArcs -= indegrees[v];
+                            break;
+                        }
+                    }
+                }
+            } else {
+                for (int k = head; k < levelEnd; k++) {
+                    int v = queue[k];
+                    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                        topDownArcs++;
+                        int suc = targets[i];
+                        if (distances[suc] == BFSResult.UNREACHABLE) {
+                            distances[suc] = level + 1;
+                            parents[suc] = v;
+                            queue[tail++] = suc;
+                            frontierArcs += getOutdegree(suc);
+                            unexploredArcs -= indegrees[suc];
+                        }
+                    }
+                }
+            }
+            head = levelEnd;
+            level++;
+        }
+        // vertices leave the queue in order of distance, so the last one is the furthest
+        return new BFSResult(source, distances, parents, tail, distances[queue[tail - 1]], topDownArcs, bottomUpArcs);
+    }
+
+    /**
+     * Gets the weakly connected components of this graph, finding them on the first call
+     * @return the weak components
+     */
+    public Components getWeakComponents() {
+        Components result = weakComponents;
+        if (result == null) {
+            synchronized (this) {
+                result = weakComponents;
+                if (result == null) {
+                    result = Components.weak(this);
+                    weakComponents = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the strongly connected components of this graph, finding them on the first call
+     * @return the strong components
+     */
+    public Components getStrongComponents() {
+        Components result = strongComponents;
+        if (result == null) {
+            synchronized (this) {
+                result = strongComponents;
+                if (result == null) {
+                    result = Components.strong(this);
+                    strongComponents = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the hop distance from one vertex to another. Returns at once if they are in different
+     * weak components, and otherwise searches from both vertices at once until the searches meet.
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to reach
+     * @return the length of a shortest path from start to end, or BFSResult.UNREACHABLE
+     */
+    public int distance(int start, int end) {
+        if (start == end) {
+            return 0;
+        }
+        if (!getWeakComponents().isSameComponent(start, end)) {
+            return BFSResult.UNREACHABLE;
+        }
+        return distance(start, end, new TraversalContext(names.length));
+    }
+
+    /**
+     * Gets the hop distance from one vertex to another like distance(start, end), searching in
+     * the working memory of a context, so that many queries in a row allocate nothing
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to reach
+     * @param context the context to search in
+     * @return the length of a shortest path from start to end, or BFSResult.UNREACHABLE
+     */
+    public int distance(int start, int end, TraversalContext context) {
+        if (!meet(start, end, context)) {
+            return BFSResult.UNREACHABLE;
+        }
+        int length = 0;
+        for (int v = context.getMeetingFrom(); v != start; v = context.getParent(v)) {
+            length++;
+        }
+        for (int v = context.getMeetingTo(); v != end; v = context.getParent(v)) {
+            length++;
+        }
+        return start == end ? 0 : length + 1;
+    }
+
+    /**
+     * Finds a shortest path from one vertex to another with a bidirectional breadth first search
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to reach
+     * @return the indices of the vertices on the path, from start to end, or an empty array if
+     * end cannot be reached from start
+     */
+    public int[] shortestPath(int start, int end) {
+        return shortestPath(start, end, new TraversalContext(names.length));
+    }
+
+    /**
+     * Finds a shortest path from one vertex to another like shortestPath(start, end), searching
+     * in the working memory of a context. Afterwards context.getExplored() tells how many
+     * vertices the search visited.
+     * @param start the index of the starting vertex
+     * @param end the index of the vertex to reach
+     * @param context the context to search in
+     * @return the indices of the vertices on the path, from start to end, or an empty array if
+     * end cannot be reached from start
+     */
+    public int[] shortestPath(int start, int end, TraversalContext context) {
+        if (!meet(start, end, context)) {
+            return new int[0];
+        }
+        if (start == end) {
+            return new int[] { start };
+        }
+        // the start half is read backward from the meeting arc, the end half forward
+        int startHalf = 0;
+        for (int v = context.getMeetingFrom(); v != -1; v = context.getParent(v)) {
+            startHalf++;
+        }
+        int endHalf = 0;
+        for (int v = context.getMeetingTo(); v != -1; v = context.getParent(v)) {
+            endHalf++;
+        }
+        int[] path = new int[startHalf + endHalf];
+        int i = startHalf;
+        for (int v = context.getMeetingFrom(); v != -1; v = context.getParent(v)) {
+            path[--i] = v;
+        }
+        i = startHalf;
+        for (int v = context.getMeetingTo(); v != -1; v = context.getParent(v)) {
+            path[i++] = v;
+        }
+        return path;
+    }
+
+    /**
+     * Searches forward from start along successors and backward from end along predecessors,
+     * a whole level at a time, always growing the side whose next level has fewer arcs to look
+     * at, until an arc from a vertex visited from start leads to a vertex visited from end. The
+     * first such arc lies on a shortest path: the levels searched so far from the two sides are
+     * disjoint, so no shorter path can exist.
+     * @return true if the searches met, at the arc the context records
+     */
+    private boolean meet(int start, int end, TraversalContext context) {
+        context.begin(names.length);
+        context.visit(start, -1);
+        if (start == end) {
+            context.meet(start, end);
+            return true;
+        }
+        if (!getWeakComponents().isSameComponent(start, end)) {
+            return false;
+        }
+        int[][] reverse = getReverse();
+        int[] predOffsets = reverse[0];
+        int[] predSources = reverse[1];
+        context.visitBackward(end, -1);
+        long forwardArcs = getOutdegree(start);
+        long backwardArcs = indegrees[end];
+        while (!context.isQueueEmpty() && !context.isBackwardQueueEmpty()) {
+            if (forwardArcs <= backwardArcs) {
+                forwardArcs = 0;
+                int levelEnd = context.getCount();
+                while (context.getHead() < levelEnd) {
+                    int v = context.dequeue();
+                    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                        int suc = targets[i];
+                        if (context.isVisitedBackward(suc)) {
+                            context.meet(v, suc);
+                            return true;
+                        }
+                        if (context.visit(suc, v)) {
+                            forwardArcs += getOutdegree(suc);
+                        }
+                    }
+                }
+            } else {
+                backwardArcs = 0;
+                int levelEnd = context.getBackwardCount();
+                while (context.getBackwardHead() < levelEnd) {
+                    int v = context.dequeueBackward();
+                    for (int i = predOffsets[v]; i < predOffsets[v + 1]; i++) {
+                        int pred = predSources[i];
+                        if (context.isVisited(pred)) {
+                            context.meet(pred, v);
+                            return true;
+                        }
+                        if (context.visitBackward(pred, v)) {
+                            backwardArcs += indegrees[pred];
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts an array of vertex indices to a linked list of their names
+     */
+    private LinkedList<String> toNames(int[] vertices) {
+        LinkedList<String> result = new LinkedList<String>();
+        for (int i = 0; i < vertices.length; i++) {
+            result.add(getName(vertices[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a short description of this graph
+     * @return the number of vertices and arcs of this graph
+     */
+    public String toString() {
+        return "CompactGraph: " + names.length + " vertices, " + targets.length + " arcs";
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * The connected components of a graph, as a primitive array giving the component id of every
+ * vertex plus the size of every component. Weak components (connected when arc directions are
+ * ignored) are found with union-find; strong components (every vertex reaches every other) with
+ * Tarjan's algorithm, run with an explicit stack so deep graphs cannot overflow the call stack.
+ * Two vertices in different weak components can never reach each other, so a search between
+ * them can stop before it starts.
+ *
+ * @version 10/17/26
+ */
+import java.util.Arrays;
+public class Components
+{
+    // instance variables
+    private final int[] componentOf;
+    private final int[] sizes;
+
+    /**
+     * Constructor for objects of class Components
+     * @param componentOf the component id of every vertex, ids going from 0 to count-1
+     * @param count the number of components
+     */
+    private Components(int[] componentOf, int count) {
+        this.componentOf = componentOf;
+        this.sizes = new int[count];
+        for (int v = 0; v < componentOf.length; v++) {
+            sizes[componentOf[v]]++;
+        }
+    }
+
+    /**
+     * Finds the weakly connected components of a graph with union-find (union by size, path halving)
+     * @param graph the graph
+     * @return the weak components, numbered in order of their lowest vertex
+     */
+    public static Components weak(CompactGraph graph) {
+        int n = graph.getNumVertices();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] parent = new int[n];
+        int[] size = new int[n];
+        for (int v = 0; v < n; v++) {
+            parent[v] = v;
+            size[v] = 1;
+        }
+        for (int v = 0; v < n; v++) {
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int a = find(parent, v);
+                int b = find(parent, targets[i]);
+                if (a != b) {
+                    if (size[a] < size[b]) {
+                        int temp = a;
+                        a = b;
+                        b = temp;
+                    }
+                    parent[b] = a;
+                    size[a] += size[b];
+                }
+            }
+        }
+        // number the components by their lowest vertex
+        int[] componentOf = new int[n];
+        int[] idOfRoot = new int[n];
+        Arrays.fill(idOfRoot, -1);
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = find(parent, v);
+            if (idOfRoot[root] == -1) {
+                idOfRoot[root] = count++;
+            }
+            componentOf[v] = idOfRoot[root];
+        }
+        return new Components(componentOf, count);
+    }
+
+    /**
+     * Finds the root of a vertex's set, pointing every other vertex on the way to its grandparent
+     */
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Finds the strongly connected components of a graph with an iterative version of Tarjan's algorithm
+     * @param graph the graph
+     * @return the strong components, numbered in the order Tarjan's algorithm completes them (a component
+     * can only have arcs to components with lower ids)
+     */
+    public static Components strong(CompactGraph graph) {
+        int n = graph.getNumVertices();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        // order in which vertices were first reached, and the lowest order reachable from each
+        int[] index = new int[n];
+        int[] low = new int[n];
+        Arrays.fill(index, -1);
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int top = 0;
+        // explicit call stack: the vertices being explored and the next arc of each to follow
+        int[] callStack = new int[n];
+        int[] nextArc = new int[n];
+        int[] componentOf = new int[n];
+        int count = 0;
+        int counter = 0;
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth++] = root;
+            index[root] = low[root] = counter++;
+            nextArc[root] = offsets[root];
+            stack[top++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int v = callStack[depth - 1];
+                if (nextArc[v] < offsets[v + 1]) {
+                    int w = targets[nextArc[v]++];
+                    if (index[w] == -1) {
+                        // "recursive call" on w
+                        index[w] = low[w] = counter++;
+                        nextArc[w] = offsets[w];
+                        stack[top++] = w;
+                        onStack[w] = true;
+                        callStack[depth++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                // every arc of v is done: "return" from v
+                depth--;
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--top];
+                        onStack[w] = false;
+                        componentOf[w] = count;
+                    } while (w != v);
+                    count++;
+                }
+                if (depth > 0) {
+                    int caller = callStack[depth - 1];
+                    low[caller] = Math.min(low[caller], low[v]);
+                }
+            }
+        }
+        return new Components(componentOf, count);
+    }
+
+    /**
+     * Gets the number of components
+     * @return the number of components
+     */
+    public int getNumComponents() {
+        return sizes.length;
+    }
+
+    /**
+     * Gets the component of a vertex
+     * @param vertex the index of the vertex
+     * @return the id of the component holding the vertex
+     */
+    public int getComponent(int vertex) {
+        return componentOf[vertex];
+    }
+
+    /**
+     * Gets the component ids of all vertices; callers must not modify the array
+     * @return the component id of every vertex, by index
+     */
+    public int[] getComponentIds() {
+        return componentOf;
+    }
+
+    /**
+     * Gets the number of vertices in a component
+     * @param component the id of the component
+     * @return the size of the component
+     */
+    public int getSize(int component) {
+        return sizes[component];
+    }
+
+    /**
+     * Gets the sizes of all components
+     * @return the size of every component, by id
+     */
+    public int[] getSizes() {
+        return sizes.clone();
+    }
+
+    /**
+     * Gets the largest component
+     * @return the id of the component with the most vertices (the lowest id if several tie), or -1 if there are none
+     */
+    public int getLargest() {
+        int largest = -1;
+        for (int c = 0; c < sizes.length; c++) {
+            if (largest == -1 || sizes[c] > sizes[largest]) {
+                largest = c;
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Tells whether two vertices are in the same component
+     * @param vertex1 the index of the first vertex
+     * @param vertex2 the index of the second vertex
+     * @return true if both vertices are in the same component
+     */
+    public boolean isSameComponent(int vertex1, int vertex2) {
+        return componentOf[vertex1] == componentOf[vertex2];
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Summary statistics of the degrees of the vertices of a graph, computed in one pass over a
+ * primitive int[] of degrees: min, max, mean, variance and a histogram of how many vertices have
+ * each degree. Percentiles are read off the histogram, the k vertices of highest degree are kept
+ * in a bounded heap, and the vertices of a given degree are looked up in an index built from the
+ * histogram instead of rescanning the degrees.
+ *
+ * @version 10/17/26
+ */
+import java.util.Arrays;
+public class DegreeStats
+{
+    // instance variables
+    private final int[] degrees;
+    private final int min;
+    private final int max;
+    private final long sum;
+    private final double variance;
+    // histogram[d] is the number of vertices of degree d
+    private final int[] histogram;
+    // vertices sorted by degree; those of degree d are byDegree[byDegreeStart[d]] .. byDegree[byDegreeStart[d+1]-1]
+    private int[] byDegreeStart;
+    private int[] byDegree;
+
+    /**
+     * Constructor for objects of class DegreeStats
+     * @param degrees the degree of every vertex, by index (used as it is, not copied)
+     */
+    public DegreeStats(int[] degrees) {
+        this.degrees = degrees;
+        int low = Integer.MAX_VALUE;
+        int high = 0;
+        long total = 0;
+        long squares = 0;
+        int[] counts = new int[64];
+        for (int i = 0; i < degrees.length; i++) {
+            int deg = degrees[i];
+            low = Math.min(low, deg);
+            high = Math.max(high, deg);
+            total += deg;
+            squares += (long) deg * deg;
+            if (deg >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(counts.length * 2, deg + 1));
+            }
+            counts[deg]++;
+        }
+        this.min = degrees.length == 0 ? 0 : low;
+        this.max = high;
+        this.sum = total;
+        this.histogram = Arrays.copyOf(counts, high + 1);
+        double mean = getMean();
+        this.variance = (double) squares / degrees.length - mean * mean;
+    }
+
+    /**
+     * Gets the number of vertices
+     * @return the number of degrees summarized
+     */
+    public int getCount() {
+        return degrees.length;
+    }
+
+    /**
+     * Gets the smallest degree
+     * @return the minimum degree, or 0 if there are no vertices
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Gets the largest degree
+     * @return the maximum degree, or 0 if there are no vertices
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the average degree
+     * @return the mean degree (NaN if there are no vertices)
+     */
+    public double getMean() {
+        return (double) sum / degrees.length;
+    }
+
+    /**
+     * Gets the population variance of the degrees
+     * @return the variance (NaN if there are no vertices)
+     */
+    public double getVariance() {
+        return variance;
+    }
+
+    /**
+     * Gets how many vertices have a given degree
+     * @param degree the degree
+     * @return the number of vertices with that degree
+     */
+    public int getFrequency(int degree) {
+        return degree >= 0 && degree < histogram.length ? histogram[degree] : 0;
+    }
+
+    /**
+     * Gets the degree histogram
+     * @return an array whose element d is the number of vertices of degree d, for d from 0 to getMax()
+     */
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Gets a percentile of the degrees (nearest rank)
+     * @param p the percentile, between 0 and 100
+     * @return the smallest degree such that at least p percent of the vertices have that degree or less
+     */
+    public int getPercentile(double p) {
+        long rank = Math.max(1, (long) Math.ceil(p / 100 * degrees.length));
+        long seen = 0;
+        for (int d = 0; d < histogram.length; d++) {
+            seen += histogram[d];
+            if (seen >= rank) {
+                return d;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the k vertices of highest degree, using a heap that never holds more than k vertices
+     * @param k the number of vertices wanted
+     * @return the indices of up to k vertices, by decreasing degree (ties by increasing index)
+     */
+    public int[] getTopK(int k) {
+        return TopK.of(degrees, k);
+    }
+
+    /**
+     * Gets the vertices with a given degree, from an index built on the first call
+     * @param degree the degree
+     * @return the indices of the vertices with that degree, in index order
+     */
+    public synchronized int[] getVertices(int degree) {
+        if (degree < 0 || degree >= histogram.length) {
+            return new int[0];
+        }
+        if (byDegree == null) {
+            // counting sort of the vertices by degree
+            byDegreeStart = new int[histogram.length + 1];
+            for (int d = 0; d < histogram.length; d++) {
+                byDegreeStart[d + 1] = byDegreeStart[d] + histogram[d];
+            }
+            int[] next = Arrays.copyOf(byDegreeStart, histogram.length);
+            byDegree = new int[degrees.length];
+            for (int v = 0; v < degrees.length; v++) {
+                byDegree[next[degrees[v]]++] = v;
+            }
+        }
+        return Arrays.copyOfRange(byDegree, byDegreeStart[degree], byDegreeStart[degree + 1]);
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * A column of Strings with few distinct values, such as gender or domain, stored as one short
+ * code per row plus a dictionary of the distinct values. Codes are given out in order of first
+ * appearance, so code 0 is the value of the first row. Filters and counts compare codes in a
+ * primitive array instead of comparing Strings.
+ *
+ * @version 10/17/26
+ */
+import java.util.*;
+import java.util.function.UnaryOperator;
+public class DictionaryColumn
+{
+    // the most distinct values a column can hold
+    public static final int MAX_VALUES = Short.MAX_VALUE + 1;
+
+    // instance variables
+    private short[] codes;
+    private int size;
+    private final ArrayList<String> values;
+    private final HashMap<String, Integer> codeOf;
+
+    /**
+     * Constructor for objects of class DictionaryColumn
+     */
+    public DictionaryColumn() {
+        this.codes = new short[16];
+        this.values = new ArrayList<String>();
+        this.codeOf = new HashMap<String, Integer>();
+    }
+
+    /**
+     * Adds a row to the end of the column
+     * @param value the value of the row
+     * @return the code of the value
+     * @throws IllegalStateException if the value would be the column's (MAX_VALUES+1)th distinct value
+     */
+    public int add(String value) {
+        int code = encode(value);
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        codes[size++] = (short) code;
+        return code;
+    }
+
+    /**
+     * Gets the code of a value, adding it to the dictionary if it is new
+     */
+    private int encode(String value) {
+        Integer code = codeOf.get(value);
+        if (code == null) {
+            if (values.size() == MAX_VALUES) {
+                throw new IllegalStateException("more than " + MAX_VALUES + " distinct values");
+            }
+            code = values.size();
+            values.add(value);
+            codeOf.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * Creates a column holding a function of every value of this column. The function is applied
+     * once per distinct value rather than once per row, and the new codes come from the old ones.
+     * @param function the function mapping a value of this column to a value of the new column
+     * @return a new column with the same number of rows
+     */
+    public DictionaryColumn map(UnaryOperator<String> function) {
+        DictionaryColumn result = new DictionaryColumn();
+        int[] newCode = new int[values.size()];
+        for (int c = 0; c < newCode.length; c++) {
+            newCode[c] = result.encode(function.apply(values.get(c)));
+        }
+        result.codes = new short[Math.max(codes.length, 16)];
+        for (int i = 0; i < size; i++) {
+            result.codes[i] = (short) newCode[codes[i]];
+        }
+        result.size = size;
+        return result;
+    }
+
+    /**
+     * Gets the number of rows
+     * @return the number of rows in the column
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the code of a row
+     * @param row the index of the row
+     * @return the code of the row's value
+     */
+    public int getCode(int row) {
+        return codes[row];
+    }
+
+    /**
+     * Gets the value of a row
+     * @param row the index of the row
+     * @return the value of the row
+     */
+    public String get(int row) {
+        return values.get(codes[row]);
+    }
+
+    /**
+     * Gets the codes of all rows; callers must not modify the array, which may be longer than size()
+     * @return the code of every row, by index
+     */
+    short[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * Gets the number of distinct values
+     * @return the size of the dictionary
+     */
+    public int getNumValues() {
+        return values.size();
+    }
+
+    /**
+     * Gets the value of a code
+     * @param code the code
+     * @return the value it stands for
+     */
+    public String getValue(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Gets the code of a value
+     * @param value the value
+     * @return its code, or -1 if no row has that value
+     */
+    public int getCodeOf(String value) {
+        Integer code = codeOf.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Gets the distinct values, in order of first appearance
+     * @return a new list of the values, the value of code c at position c
+     */
+    public LinkedList<String> getValues() {
+        return new LinkedList<String>(values);
+    }
+
+    /**
+     * Counts the rows of every value in one pass over the codes
+     * @return an array whose element c is the number of rows with code c
+     */
+    public int[] getCounts() {
+        int[] counts = new int[values.size()];
+        for (int i = 0; i < size; i++) {
+            counts[codes[i]]++;
+        }
+        return counts;
+    }
+}
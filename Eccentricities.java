@@ -0,0 +1,160 @@
+/**
+ * Computes the exact eccentricity of every vertex of a graph, along with its radius, diameter,
+ * center and periphery. The eccentricity of a vertex is the largest hop distance from it to a
+ * vertex it can reach (vertices it cannot reach are left out, since in a directed graph almost
+ * no vertex reaches every other one).
+ *
+ * The breadth first searches are run 64 at a time as a multi-source BFS (MS-BFS): bit j of a
+ * vertex's word says whether the j-th search of the batch has seen it, so one scan of the
+ * adjacency lists advances 64 searches at once. Batches run in parallel on the common
+ * fork/join pool, reusing bit arrays from batch to batch through a pool kept for this
+ * computation only.
+ *
+ * @version 10/17/26
+ */
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+public class Eccentricities
+{
+    // instance variables
+    private final int[] eccentricities;
+    private final int radius;
+    private final int diameter;
+    private final int[] center;
+    private final int[] periphery;
+
+    /**
+     * Constructor for objects of class Eccentricities, runs the searches from every vertex
+     * @param graph the graph to compute the eccentricities of
+     */
+    public Eccentricities(CompactGraph graph) {
+        int n = graph.getNumVertices();
+        eccentricities = new int[n];
+        // vertices without successors have eccentricity 0 and need no search
+        int[] sources = IntStream.range(0, n).filter(v -> graph.getOutdegree(v) > 0).toArray();
+        int batches = (sources.length + 63) / 64;
+        // bit arrays not in use by a running batch; there are never more than the batches running at once
+        ConcurrentLinkedQueue<long[][]> pool = new ConcurrentLinkedQueue<long[][]>();
+        IntStream.range(0, batches).parallel().forEach(batch -> {
+            long[][] bits = pool.poll();
+            if (bits == null) {
+                bits = new long[3][n];
+            }
+            int first = batch * 64;
+            runBatch(graph, sources, first, Math.min(64, sources.length - first), bits);
+            pool.add(bits);
+        });
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int i = 0; i < sources.length; i++) {
+            min = Math.min(min, eccentricities[sources[i]]);
+            max = Math.max(max, eccentricities[sources[i]]);
+        }
+        radius = sources.length == 0 ? 0 : min;
+        diameter = max;
+        center = IntStream.of(sources).filter(v -> eccentricities[v] == radius).toArray();
+        periphery = IntStream.range(0, n).filter(v -> eccentricities[v] == diameter).toArray();
+    }
+
+    /**
+     * Runs up to 64 breadth first searches together, recording the eccentricity of each source
+     * @param sources the sources of all batches
+     * @param first the position in sources of the first source of this batch
+     * @param count the number of sources in this batch
+     * @param bits three arrays of n words for seen, visit and next, reused between batches
+     */
+    private void runBatch(CompactGraph graph, int[] sources, int first, int count, long[][] bits) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        long[] seen = bits[0];
+        long[] visit = bits[1];
+        long[] next = bits[2];
+        Arrays.fill(seen, 0);
+        Arrays.fill(visit, 0);
+        Arrays.fill(next, 0);
+        for (int j = 0; j < count; j++) {
+            seen[sources[first + j]] |= 1L << j;
+            visit[sources[first + j]] |= 1L << j;
+        }
+        int level = 0;
+        long found = -1;
+        while (found != 0) {
+            level++;
+            // every vertex seen by some search last level passes those searches on to its successors
+            for (int v = 0; v < visit.length; v++) {
+                long searches = visit[v];
+                if (searches == 0) {
+                    continue;
+                }
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int w = targets[i];
+                    long discovered = searches & ~seen[w];
+                    if (discovered != 0) {
+                        next[w] |= discovered;
+                        seen[w] |= discovered;
+                    }
+                }
+            }
+            // the searches that discovered anything at this level reach at least this far
+            found = 0;
+            for (int v = 0; v < next.length; v++) {
+                found |= next[v];
+                visit[v] = next[v];
+                next[v] = 0;
+            }
+            for (long left = found; left != 0; left &= left - 1) {
+                eccentricities[sources[first + Long.numberOfTrailingZeros(left)]] = level;
+            }
+        }
+    }
+
+    /**
+     * Gets the eccentricity of a vertex
+     * @param vertex the index of the vertex
+     * @return the largest distance from vertex to a vertex it can reach
+     */
+    public int getEccentricity(int vertex) {
+        return eccentricities[vertex];
+    }
+
+    /**
+     * Gets the eccentricities of all vertices; callers must not modify the array
+     * @return the eccentricity of every vertex, by index
+     */
+    public int[] getEccentricities() {
+        return eccentricities;
+    }
+
+    /**
+     * Gets the radius of the graph: the smallest eccentricity of a vertex that has successors
+     * @return the radius
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the diameter of the graph: the largest eccentricity of any vertex
+     * @return the diameter
+     */
+    public int getDiameter() {
+        return diameter;
+    }
+
+    /**
+     * Gets the center of the graph: the vertices with successors whose eccentricity is the radius
+     * @return the indices of the center vertices, in index order
+     */
+    public int[] getCenter() {
+        return center.clone();
+    }
+
+    /**
+     * Gets the periphery of the graph: the vertices whose eccentricity is the diameter
+     * @return the indices of the periphery vertices, in index order
+     */
+    public int[] getPeriphery() {
+        return periphery.clone();
+    }
+}
@@ -0,0 +1,306 @@
+/**
+ * Counts the people of every gender in every domain straight from a Pantheon nodes CSV file,
+ * updating the counts row by row as CSVReader hands the rows over. The reader is given small
+ * ranges and a small window, so it holds a few megabytes of buffers whatever the number of
+ * cores, and otherwise memory use depends on the number of domains and genders and not on the
+ * number of rows. The counter remembers the byte offset it has read up to; calling update again
+ * after rows have been appended to the file reads only the new rows. A last line without a line
+ * terminator may still be being written, so it is left for the next update. The offset and the
+ * counts can be saved to a small text file and loaded again later to resume counting. The file
+ * is UTF-8, with tabs, line breaks and backslashes in domains and genders escaped, since quoted
+ * CSV fields can hold any of them.
+ *
+ * @version 10/17/26
+ */
+import java.util.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+public class GenderCounter
+{
+    // bytes per range read, and ranges read at the same time; enough to keep up with the counting
+    static final int CHUNK_SIZE = 1 << 20;
+    static final int WINDOW = 2;
+
+    // instance variables
+    private long offset;
+    private long rows;
+    private final ArrayList<String> domains;
+    private final ArrayList<String> genders;
+    private final HashMap<String, Integer> domainCodes;
+    private final HashMap<String, Integer> genderCodes;
+    // counts[d][g] is the number of people of gender code g in domain code d
+    private long[][] counts;
+
+    /**
+     * Constructor for objects of class GenderCounter, with no rows counted yet
+     */
+    public GenderCounter() {
+        this.domains = new ArrayList<String>();
+        this.genders = new ArrayList<String>();
+        this.domainCodes = new HashMap<String, Integer>();
+        this.genderCodes = new HashMap<String, Integer>();
+        this.counts = new long[0][];
+    }
+
+    /**
+     * Counts the rows of a file that were not counted yet: all of them (after the header line) the
+     * first time, then only those appended since the last update
+     * @param fileName the name of the CSV file to read
+     * @return the number of rows counted by this update
+     * @throws IOException if the file cannot be read
+     */
+    public long update(String fileName) throws IOException {
+        CSVReader reader = new CSVReader(fileName, CHUNK_SIZE, WINDOW);
+        if (offset == 0) {
+            if (!reader.isHeaderComplete()) {
+                return 0;
+            }
+            offset = reader.getDataStart();
+        }
+        long before = rows;
+        reader.read(offset, true, new int[] { PersonTable.GENDER_COLUMN, PersonTable.DOMAIN_COLUMN }, record -> {
+            if (record[1] != null) {
+                add(record[1], record[0], 1);
+                rows++;
+            }
+        });
+        offset = reader.getEnd();
+        return rows - before;
+    }
+
+    /**
+     * Adds to the count of a domain and gender, giving new domains and genders a code
+     */
+    private void add(String domain, String gender, long count) {
+        Integer d = domainCodes.get(domain);
+        if (d == null) {
+            d = domains.size();
+            domains.add(domain);
+            domainCodes.put(domain, d);
+            counts = Arrays.copyOf(counts, domains.size());
+            counts[d] = new long[genders.size()];
+        }
+        Integer g = genderCodes.get(gender);
+        if (g == null) {
+            g = genders.size();
+            genders.add(gender);
+            genderCodes.put(gender, g);
+        }
+        if (g >= counts[d].length) {
+            counts[d] = Arrays.copyOf(counts[d], genders.size());
+        }
+        counts[d][g] += count;
+    }
+
+    /**
+     * Gets the byte offset the next update will start reading from
+     * @return the number of bytes of the file that have been counted, the header included
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the number of rows counted so far
+     * @return the number of people counted
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the domains seen so far
+     * @return the domains, in order of first appearance
+     */
+    public LinkedList<String> getDomains() {
+        return new LinkedList<String>(domains);
+    }
+
+    /**
+     * Gets the genders seen so far
+     * @return the genders, in order of first appearance
+     */
+    public LinkedList<String> getGenders() {
+        return new LinkedList<String>(genders);
+    }
+
+    /**
+     * Gets the number of people of a gender in a domain
+     * @param domain the domain, or null for all domains
+     * @param gender the gender
+     * @return the number of people counted with that domain and gender
+     */
+    public long getCount(String domain, String gender) {
+        Integer g = genderCodes.get(gender);
+        if (g == null) {
+            return 0;
+        }
+        long sum = 0;
+        for (int d = 0; d < counts.length; d++) {
+            if ((domain == null || domains.get(d).equals(domain)) && g < counts[d].length) {
+                sum += counts[d][g];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Calculates the percentages of men and women in a domain, like InvestigateGender.getPercents
+     * @param domainName the domain; any name that is not a domain (such as "ALL") covers everybody
+     * @return a LinkedList of two floats (percentages of men, women in the domain)
+     */
+    public LinkedList<Float> getPercents(String domainName) {
+        String domain = domainCodes.containsKey(domainName) ? domainName : null;
+        float total = 0;
+        for (int g = 0; g < genders.size(); g++) {
+            total += getCount(domain, genders.get(g));
+        }
+        float men = getCount(domain, "Male");
+        LinkedList<Float> percents = new LinkedList<Float>();
+        percents.add((men / total) * 100);
+        percents.add(((total - men) / total) * 100);
+        return percents;
+    }
+
+    /**
+     * Saves the offset and the counts, so counting can resume from them later
+     * @param fileName the name of the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(String fileName) throws IOException {
+        PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName), StandardCharsets.UTF_8)));
+        try {
+            writer.println("offset\t" + offset);
+            writer.println("rows\t" + rows);
+            for (int d = 0; d < counts.length; d++) {
+                for (int g = 0; g < counts[d].length; g++) {
+                    if (counts[d][g] > 0) {
+                        writer.println(escape(domains.get(d)) + "\t" + escape(genders.get(g)) + "\t" + counts[d][g]);
+                    }
+                }
+            }
+        }
+        finally {
+            writer.close();
+        }
+        if (writer.checkError()) {
+            throw new IOException("could not write " + fileName);
+        }
+    }
+
+    /**
+     * Loads a counter saved with save
+     * @param fileName the name of the file to read
+     * @return a counter with the saved offset and counts
+     * @throws IOException if the file cannot be read or is not a saved counter
+     */
+    public static GenderCounter load(String fileName) throws IOException {
+        GenderCounter counter = new GenderCounter();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName), StandardCharsets.UTF_8));
+        try {
+            String[] offsetLine = readFields(reader, 2, fileName);
+            String[] rowsLine = readFields(reader, 2, fileName);
+            counter.offset = Long.parseLong(offsetLine[1]);
+            counter.rows = Long.parseLong(rowsLine[1]);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (fields.length != 3) {
+                    throw new IOException("bad line in " + fileName + ": " + line);
+                }
+                counter.add(unescape(fields[0], fileName), unescape(fields[1], fileName), Long.parseLong(fields[2]));
+            }
+        }
+        catch (NumberFormatException e) {
+            throw new IOException("bad number in " + fileName + ": " + e.getMessage());
+        }
+        finally {
+            reader.close();
+        }
+        return counter;
+    }
+
+    /**
+     * Escapes the backslashes, tabs and line breaks of a value, so it fits in one field of a line
+     */
+    private static String escape(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                result.append("\\\\");
+            } else if (c == '\t') {
+                result.append("\\t");
+            } else if (c == '\n') {
+                result.append("\\n");
+            } else if (c == '\r') {
+                result.append("\\r");
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Undoes escape
+     */
+    private static String unescape(String field, String fileName) throws IOException {
+        if (field.indexOf('\\') < 0) {
+            return field;
+        }
+        StringBuilder result = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c != '\\') {
+                result.append(c);
+                continue;
+            }
+            char next = ++i < field.length() ? field.charAt(i) : ' ';
+            if (next == '\\') {
+                result.append('\\');
+            } else if (next == 't') {
+                result.append('\t');
+            } else if (next == 'n') {
+                result.append('\n');
+            } else if (next == 'r') {
+                result.append('\r');
+            } else {
+                throw new IOException("bad escape in " + fileName + ": " + field);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Reads a line of tab-separated fields that must be there
+     */
+    private static String[] readFields(BufferedReader reader, int count, String fileName) throws IOException {
+        String line = reader.readLine();
+        String[] fields = line == null ? new String[0] : line.split("\t", -1);
+        if (fields.length != count) {
+            throw new IOException("not a saved GenderCounter: " + fileName);
+        }
+        return fields;
+    }
+
+    /**
+     * Formats the counts as a table
+     * @return one line per domain, with its count of every gender
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int g = 0; g < genders.size(); g++) {
+            result.append('\t').append(genders.get(g));
+        }
+        result.append('\n');
+        for (int d = 0; d < counts.length; d++) {
+            result.append(domains.get(d));
+            for (int g = 0; g < genders.size(); g++) {
+                result.append('\t').append(g < counts[d].length ? counts[d][g] : 0);
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+}
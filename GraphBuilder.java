@@ -6,9 +6,7 @@
  * @version 4/11/2019
  * Stella added complete javadoc
  */
-import java.io.File;
 import java.io.IOException;
-import java.util.Scanner;
 
 /* 
  * When we want to create a graph of some specific object type,
@@ -35,6 +33,9 @@ abstract class GraphBuilder<T> {
    * Reads from the input .tgf file, line by line.
    * Creates the vertex objects, and adds them to the graph.
    * Then, adds the connections between the vertices.
+   * Lines are read straight from a byte buffer; arcs are parsed as
+   * integers from the bytes and wired by vertex position, without
+   * looking any vertex up.
    * 
    * PRECONDITION: the input file is in the TGF format
    * 
@@ -47,13 +48,20 @@ abstract class GraphBuilder<T> {
      AdjListsGraph<T> g = new AdjListsGraph<T>();
     //open the file for reading
     try{ // to read from the tgf file
-      Scanner scanner = new Scanner(new File(fileName));
+      ByteLineReader reader = ByteLineReader.open(fileName);
       
-      //read vertices
-      while ( !scanner.next().equals("#")) {
-        String line = "";
-        //read a line as String
-        line = scanner.nextLine().trim();
+      //read vertices, until the line holding only "#"
+      while (reader.nextLine()) {
+        int id = reader.skipBlanks(reader.start);
+        int idEnd = reader.endOfToken(id);
+        if (id == idEnd) {
+          continue; //blank line
+        }
+        if (idEnd - id == 1 && reader.bytes[id] == '#') {
+          break;
+        }
+        //the rest of the line, after the id, is the vertex
+        String line = reader.decode(idEnd, reader.end).trim();
         //create an object of the specific type the graph contains,
         //based on the read string
         T thing = createOneThing(line);
@@ -62,14 +70,21 @@ abstract class GraphBuilder<T> {
       }
       
       //read arcs
-      while (scanner.hasNext()){
-          //read from to vertices, in one line as integers
-        int from = scanner.nextInt();
-        int to = scanner.nextInt();
-        g.addArc(g.vertices.get(from-1), g.vertices.get(to-1));
+      while (reader.nextLine()){
+        //read from to vertices, the first two numbers in the line
+        int fromStart = reader.skipBlanks(reader.start);
+        int fromEnd = reader.endOfToken(fromStart);
+        if (fromStart == fromEnd) {
+          continue; //blank line
+        }
+        int toStart = reader.skipBlanks(fromEnd);
+        int toEnd = reader.endOfToken(toStart);
+        int from = reader.parseInt(fromStart, fromEnd);
+        int to = reader.parseInt(toStart, toEnd);
+        g.addArcAt(from-1, to-1);
       }
       
-      scanner.close();
+      reader.close();
     } catch (IOException ex) {
       System.out.println(fileName + " ***ERROR*** The file was not found: " + ex);
     }
@@ -6,9 +6,8 @@
  * @version 4/27/20
  */
 
-import java.util.Scanner; 
-import java.io.File; 
-import java.io.FileNotFoundException; 
+import java.util.function.BiConsumer; 
+import java.io.IOException; 
 public class GraphCreator
 {
     // instance variables 
@@ -37,31 +36,45 @@ public class GraphCreator
     /**
      * Reads through each line of the Wikipedia dataset, creates nodes for the "from_name" and "to_name" strings on each line,
      * connects those nodes by making an arc between them
-     * @return the graph generated from the Wikipedia dataset
+     * @return the graph generated from the Wikipedia dataset (empty if the file cannot be read)
      */
     public AdjListsGraph<String> readFile() {
         AdjListsGraph<String> graph = new AdjListsGraph<String>(); 
         try {
-            File file = new File(fileName); 
-            Scanner scan = new Scanner(file);
-            String[] temp = scan.nextLine().split(",");
-            while (scan.hasNext()) {
-                String[] temp1 = scan.nextLine().split(","); 
-                String vert1 = temp1[0]; 
-                String vert2 = temp1[1]; 
+            readEdges(fileName, (vert1, vert2) -> {
                 graph.addVertex(vert1); 
                 graph.addVertex(vert2); 
                 graph.addArc(vert1, vert2);
-            }
+            }); 
         }
-        catch (FileNotFoundException e) {
+        catch (IOException e) {
             System.out.println(e); 
-            System.out.println("The program terminates."); 
-            System.exit(0);    
         }
         return graph; 
     }
 
+    /**
+     * Streams the rows of a Wikipedia edge CSV file, skipping the header line, and hands the first two columns
+     * ("from_name" and "to_name") of every row to sink. The file is parsed in parallel with CSVReader, so quoted
+     * names holding commas are read correctly, but the rows still reach sink one at a time and in file order.
+     * Rows without a second column are skipped.
+     * @param fileName the name of the CSV file to read
+     * @param sink receives the from and to name of every row, in file order
+     * @return the number of rows read
+     * @throws IOException if the file cannot be read
+     */
+    public static long readEdges(String fileName, BiConsumer<String, String> sink) throws IOException {
+        CSVReader reader = new CSVReader(fileName); 
+        long[] rows = { 0 }; 
+        reader.read(new int[] { 0, 1 }, record -> {
+            if (record[1] != null) {
+                sink.accept(record[0], record[1]); 
+                rows[0]++; 
+            }
+        }); 
+        return rows[0]; 
+    }
+
     public static void main(String[] args) {
         /**
          * Produces WikipediaGraph TGF file from pantheon_edges_1000 using the saveToTGF function
@@ -69,6 +82,26 @@ public class GraphCreator
         GraphCreator wiki = new GraphCreator("pantheon_edges_1000.csv"); 
         AdjListsGraph<String> graph = wiki.readFile();
         graph.saveToTGF("WikipediaGraph.tgf");
+        // also save it in the binary graph format, which loads without parsing
+        try {
+            GraphFile.write(CompactGraph.fromGraph(graph), "WikipediaGraph.bin"); 
+        }
+        catch (IOException e) {
+            System.out.println(e); 
+        }
+
+        /**
+         * Reports how many rows per second of pantheon_edges_1000 are read, without building a graph
+         */
+        try {
+            long start = System.nanoTime(); 
+            long rows = readEdges("pantheon_edges_1000.csv", (vert1, vert2) -> { }); 
+            double seconds = (System.nanoTime() - start) / 1e9; 
+            System.out.printf("Read %d rows from %s in %.3f s (%.0f rows/sec)%n", rows, "pantheon_edges_1000.csv", seconds, rows / seconds); 
+        }
+        catch (IOException e) {
+            System.out.println(e); 
+        }
         
         /**
          * Produces WikipediaGraph TGF file from pantheon_edges_all using the saveToTGF function
@@ -80,6 +113,19 @@ public class GraphCreator
         graph.saveToTGF("WikipediaGraph.tgf");
          */
 
+        /**
+         * Loads pantheon_edges_all into a CompactGraph instead, which fits in a normal heap
+         */
+        /*
+        try {
+            CompactGraph all = CompactGraph.fromCSV("pantheon_edges_all.csv"); 
+            System.out.println(all); 
+        }
+        catch (IOException e) {
+            System.out.println(e); 
+        }
+         */
+
         /**
          * Test on small graph
          */
@@ -88,6 +134,12 @@ public class GraphCreator
         graph1.saveToTGF("test1.tgf"); 
         // Tests what BFS will do when told to travel from a start_vert to a disconnected end_vert - returns the longest path that it can 
         System.out.println(graph1.BreadthFirstSearch("Andy Warhol", "Pope Leo III").toString()); 
+        // Checking the components first tells us up front that there is no path at all
+        if (graph1.getDistance("Andy Warhol", "Pope Leo III") == -1) {
+            System.out.println("Pope Leo III cannot be reached from Andy Warhol"); 
+        }
+        System.out.println(graph1.getWeakComponents().getNumComponents() + " weak components, " 
+            + graph1.getStrongComponents().getNumComponents() + " strong components"); 
 
     } 
 }
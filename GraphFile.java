@@ -0,0 +1,175 @@
+/**
+ * Reads and writes CompactGraphs in a versioned binary format, an alternative to TGF that
+ * needs no parsing. All numbers are little-endian:
+ *
+ *   header       magic "PGRF", version, number of vertices n, number of arcs m (4 ints),
+ *                length of the string table in bytes (long), reserved (long)
+ *   nameOffsets  n+1 ints, where the name of every vertex starts in the string table
+ *   offsets      n+1 ints, the CSR offsets of the graph
+ *   targets      m ints, the CSR targets of the graph
+ *   strings      the UTF-8 bytes of all names, one after the other
+ *
+ * Opening a file memory-maps it: the offsets and targets are bulk-copied out of the mapping,
+ * and names stay in the mapped string table until they are asked for.
+ *
+ * @version 10/17/26
+ */
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+public class GraphFile
+{
+    static final int MAGIC = 0x46524750; // "PGRF" read as a little-endian int
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    /**
+     * Writes a graph to a binary graph file
+     * @param graph the graph to write
+     * @param fileName the name of the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(CompactGraph graph, String fileName) throws IOException {
+        int n = graph.getNumVertices();
+        byte[][] utf8 = new byte[n][];
+        int[] nameOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            utf8[i] = graph.getName(i).getBytes(StandardCharsets.UTF_8);
+            nameOffsets[i + 1] = Math.addExact(nameOffsets[i], utf8[i].length);
+        }
+        FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(graph.getNumArcs());
+            buffer.putLong(nameOffsets[n]).putLong(0);
+            writeInts(channel, buffer, nameOffsets);
+            writeInts(channel, buffer, graph.getOffsets());
+            writeInts(channel, buffer, graph.getTargets());
+            for (int i = 0; i < n; i++) {
+                if (buffer.remaining() < utf8[i].length) {
+                    flush(channel, buffer);
+                }
+                if (buffer.remaining() < utf8[i].length) {
+                    channel.write(ByteBuffer.wrap(utf8[i]));
+                } else {
+                    buffer.put(utf8[i]);
+                }
+            }
+            flush(channel, buffer);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Appends an array of ints to the file through the write buffer
+     */
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        int i = 0;
+        while (i < values.length) {
+            if (buffer.remaining() < 4) {
+                flush(channel, buffer);
+            }
+            int count = Math.min(values.length - i, buffer.remaining() / 4);
+            buffer.asIntBuffer().put(values, i, count);
+            buffer.position(buffer.position() + count * 4);
+            i += count;
+        }
+    }
+
+    /**
+     * Writes out everything in the write buffer and empties it
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Opens a binary graph file by memory-mapping it
+     * @param fileName the name of the file to open
+     * @return the graph stored in the file
+     * @throws IOException if the file cannot be read, is not a graph file of a known version, or
+     * its sizes, offsets or arc targets do not fit together
+     */
+    public static CompactGraph open(String fileName) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(fileName + " is not a graph file");
+            }
+            ByteBuffer header = map(channel, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException(fileName + " is not a graph file");
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException(fileName + " has unsupported graph file version " + header.getInt(4));
+            }
+            int n = header.getInt(8);
+            int m = header.getInt(12);
+            long nameBytes = header.getLong(16);
+            // check the sizes against the file before mapping or allocating anything
+            if (n < 0 || n == Integer.MAX_VALUE || m < 0 || nameBytes < 0 || nameBytes > Integer.MAX_VALUE) {
+                throw new IOException(fileName + " is corrupt: bad sizes in the header");
+            }
+            long position = HEADER_SIZE;
+            if (position + 8L * (n + 1L) + 4L * m + nameBytes != channel.size()) {
+                throw new IOException(fileName + " is truncated or corrupt");
+            }
+            int[] nameOffsets = readInts(channel, position, n + 1);
+            position += 4L * (n + 1);
+            int[] offsets = readInts(channel, position, n + 1);
+            position += 4L * (n + 1);
+            int[] targets = readInts(channel, position, m);
+            position += 4L * m;
+            checkOffsets(nameOffsets, nameBytes, fileName);
+            checkOffsets(offsets, m, fileName);
+            for (int i = 0; i < m; i++) {
+                if (targets[i] < 0 || targets[i] >= n) {
+                    throw new IOException(fileName + " is corrupt: arc " + i + " goes to vertex " + targets[i]);
+                }
+            }
+            // the mapping stays valid after the channel is closed
+            ByteBuffer nameTable = map(channel, position, nameBytes);
+            return new CompactGraph(nameTable, nameOffsets, offsets, targets);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Checks that offsets start at 0, never decrease and end at the given total
+     */
+    private static void checkOffsets(int[] offsets, long total, String fileName) throws IOException {
+        if (offsets[0] != 0 || offsets[offsets.length - 1] != total) {
+            throw new IOException(fileName + " is corrupt: offsets do not span the data");
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                throw new IOException(fileName + " is corrupt: offsets decrease at vertex " + i);
+            }
+        }
+    }
+
+    /**
+     * Maps a read-only, little-endian section of the file
+     */
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Copies a section of ints out of the file with one bulk copy from its mapping
+     */
+    private static int[] readInts(FileChannel channel, long position, int count) throws IOException {
+        int[] values = new int[count];
+        map(channel, position, 4L * count).asIntBuffer().get(values);
+        return values;
+    }
+}
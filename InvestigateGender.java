@@ -1,46 +1,48 @@
 /**
- * Creates Person objects from a CSV file, compiles those Person objects into a LinkedList. 
- * Also sub-divides Person objects into separate LinkedLists based on professional domain. 
- * Includes method to calculate the percentage of men and women in a specified domain. 
+ * Reads people from a CSV file into a columnar PersonTable, with gender and domain stored as
+ * dictionary codes. Also finds the people of a professional domain, and includes a method to
+ * calculate the percentage of men and women in a specified domain; both run in one pass over
+ * the code columns. The gender counts for every value of a column (every domain, country or
+ * birth century) come out of a single parallel pass as a CrossTab.
  *
  * @author Leah Teffera & Alina Zheng 
  * @version 5/9/20
  */
 import java.util.LinkedList;
-import java.util.Scanner; 
 import java.io.IOException; 
-import java.net.URL; 
-import java.io.File; 
-import java.io.FileNotFoundException; 
 public class InvestigateGender
 {
     // instance variables
-    private LinkedList<Person> people; 
-    private LinkedList<Person> sciTechPeople;
-    private LinkedList<Person> humanitiesPeople;
-    private LinkedList<Person> BLawPeople;
+    private PersonTable people; 
 
     /**
      * Constructor for objects of class InvestigateGender
-     * @param fileName the CSV file to read from to get the LinkedList of Person objects
+     * @param fileName the CSV file to read from to get the table of people
      */
     public InvestigateGender(String fileName)
     {
         // initialise instance variables
         this.people = readFile(fileName);
-        this.sciTechPeople = getPeopleFromDomain("SCIENCE & TECHNOLOGY"); 
-        this.humanitiesPeople = getPeopleFromDomain("HUMANITIES"); 
-        this.BLawPeople = getPeopleFromDomain("BUSINESS & LAW"); 
+    }
+
+    /**
+     * Constructor for objects of class InvestigateGender that also keeps other columns of the file
+     * @param fileName the CSV file to read from to get the table of people
+     * @param columns the header names of the other columns to keep, such as "countryName" or "birthyear"
+     */
+    public InvestigateGender(String fileName, String... columns)
+    {
+        this.people = readFile(fileName, columns);
     }
 
     /**
      * Reads a line of the CSV file and creates a Person
-     * @param data a line of the CSV file
+     * @param data a line of the CSV file; quoted fields may hold commas
      * @return a Person
      */
     public Person readLine(String data)
     {
-        String[] line = data.split(",");
+        String[] line = CSVReader.split(data);
         String name = ""; 
         String gender = ""; 
         String domain = ""; 
@@ -52,23 +54,26 @@ public class InvestigateGender
     }
 
     /**
-     * Reads from a file and creates a LinkedList of Person objects
+     * Reads from a file and creates a table of people
+     * @param fileName the file to read from 
+     * @return a PersonTable with one row per line of the file
+     */
+    public PersonTable readFile(String fileName){
+        return readFile(fileName, new String[0]); 
+    }
+
+    /**
+     * Reads from a file and creates a table of people with some other columns of the file
      * @param fileName the file to read from 
-     * @return LinkedList<Person>
+     * @param columns the header names of the other columns to keep
+     * @return a PersonTable with one row per line of the file
      */
-    public LinkedList<Person> readFile(String fileName){
-        LinkedList<Person> peopleFromFile = new LinkedList<Person>(); 
+    public PersonTable readFile(String fileName, String... columns){
+        PersonTable peopleFromFile = null; 
         try{
-            File file = new File(fileName); 
-            Scanner scan = new Scanner(file);
-            scan.nextLine(); 
-            while(scan.hasNext()){
-                String temp = scan.nextLine(); 
-                Person tempPerson = readLine(temp); 
-                peopleFromFile.add(tempPerson); 
-            }
+            peopleFromFile = PersonTable.fromCSV(fileName, columns); 
         }
-        catch (FileNotFoundException e) {
+        catch (IOException e) {
             System.out.println(e); 
             System.out.println("The program terminates."); 
             System.exit(0);    
@@ -76,65 +81,52 @@ public class InvestigateGender
         return peopleFromFile; 
     }
 
+    /**
+     * Gets the table of people
+     * @return the PersonTable read from the file
+     */
+    public PersonTable getPeople(){
+        return people; 
+    }
+
     /**
      * Creates a list of people for a specified domain.
-     * We're assuming that the user (us) enters in a domainName that actually exists.
      * @param domainName the specified domain
-     * @return a Linked List of People 
+     * @return a Linked List of People (empty if no one is in that domain)
      */
     public LinkedList<Person> getPeopleFromDomain(String domainName){
-        LinkedList<Person> domainList = new LinkedList<Person>(); 
-        for (int i = 0; i<people.size(); i++){
-            if(people.get(i).getDomain().equals(domainName)){
-                domainList.add(people.get(i)); 
-            }
-        }
-        return domainList; 
+        return people.getPeople(people.getRowsWhere(people.getDomains(), domainName)); 
     }
 
     /**
      * Creates a list of the domains
-     * @return a list of all the domains 
+     * @return a list of all the domains, in order of first appearance
      */
     public LinkedList<String> getDomains(){
-        LinkedList<String> domains = new LinkedList<String>(); 
-        for (int i = 0; i<people.size(); i++){
-            if ((!domains.contains(people.get(i).getDomain()))){
-                domains.add(people.get(i).getDomain()); 
-            }
-        }
-        return domains; 
+        return people.getDomains().getValues(); 
     }
 
     /**
-     * Calculates the percentages of men and women in a LinkedList of Person objects of a particular domain
-     * @param domainName the domain corresponding to the LinkedList of people we want to examine
+     * Calculates the percentages of men and women among the people of a particular domain
+     * @param domainName the domain of the people we want to examine; any name that is not a domain (such as "ALL") examines everybody
      * @return a LinkedList of two floats (percentages of men, women in a specified domain) 
      */
     public LinkedList<Float> getPercents(String domainName){
         LinkedList<Float> percents = new LinkedList<Float>(); 
-        LinkedList<Person> list; 
         System.out.println("Percent of male and female people in " + domainName);
-        if (domainName.equals("SCIENCE & TECHNOLOGY")) {
-            list = this.sciTechPeople; 
-        } else if (domainName.equals("HUMANITIES")) {
-            list = this.humanitiesPeople; 
-        } else if(domainName.equals("BUSINESS & LAW")){
-            list = this.BLawPeople;
+        int[] counts; 
+        if (people.getDomains().getCodeOf(domainName) >= 0) {
+            counts = people.getGenderCounts(domainName); 
         } else {
-            list = this.people; 
+            counts = people.getGenderCounts(null); 
         }
-        float men = 0; 
-        float women = 0; 
-        float total_people = list.size(); 
-        for (int i = 0; i < total_people; i++) { 
-            if (list.get(i).getGender().equals("Male")) {
-                men++; 
-            }
-            else {
-                women++; 
-            }
+        int male = people.getGenders().getCodeOf("Male"); 
+        float total_people = 0; 
+        for (int i = 0; i < counts.length; i++) { 
+            total_people += counts[i]; 
         }
+        float men = male < 0 ? 0 : counts[male]; 
+        float women = total_people - men; 
         float male_percent = (men / total_people)*100; 
         float fem_percent = (women / total_people)*100; 
         percents.add(male_percent); 
@@ -142,13 +134,22 @@ public class InvestigateGender
         return percents; 
     }
 
+    /**
+     * Counts the men and women for every value of a column at once
+     * @param column PersonTable.DOMAIN, or another column kept from the file or derived from one
+     * @return the gender counts and percentages for every value of the column
+     */
+    public CrossTab getGenderCrossTab(String column){
+        return people.getGenderCrossTab(column); 
+    }
+
     /**
      * Main method for running our investigation of gender
      */
     public static void main (String[] args){
         InvestigateGender test1 = new InvestigateGender("pantheon_nodes_1000.csv"); 
         //System.out.println(test1.people.toString()); 
-        // System.out.println(test1.sciTechPeople.toString()); 
+        // System.out.println(test1.getPeopleFromDomain("SCIENCE & TECHNOLOGY").toString()); 
         //LinkedList<String> domains1 = test1.getDomains(); 
         //System.out.println(domains1.toString()); 
         System.out.println(test1.getPercents("ALL").toString()); 
@@ -158,5 +159,28 @@ public class InvestigateGender
         System.out.println(humanitiesPercent.toString());
         LinkedList<Float> bLawPercent = test1.getPercents("BUSINESS & LAW"); 
         System.out.println(bLawPercent.toString());
+        // Gender counts of every domain in one pass
+        /*
+        System.out.println(test1.getGenderCrossTab(PersonTable.DOMAIN)); 
+         */
+        // Counts the same file row by row without keeping the rows; update again to count rows appended later
+        /*
+        GenderCounter counter = new GenderCounter(); 
+        try {
+            counter.update("pantheon_nodes_1000.csv"); 
+            System.out.println(counter.getPercents("SCIENCE & TECHNOLOGY").toString()); 
+            counter.save("pantheon_nodes_1000.counts"); 
+        }
+        catch (IOException e) {
+            System.out.println(e); 
+        }
+         */
+        // Gender counts by country and by birth century 
+        /*
+        InvestigateGender test2 = new InvestigateGender("pantheon_nodes_1000.csv", "countryName", "birthyear"); 
+        test2.getPeople().addDerivedColumn("birthcentury", "birthyear", PersonTable::century); 
+        System.out.println(test2.getGenderCrossTab("countryName")); 
+        System.out.println(test2.getGenderCrossTab("birthcentury")); 
+         */
     }
 }
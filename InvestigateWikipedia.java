@@ -7,6 +7,7 @@
  * @version 5/1/20
  */
 import java.util.*;
+import java.util.stream.Stream; 
 import java.io.*; 
 import javafoundations.*; 
 public class InvestigateWikipedia
@@ -15,8 +16,11 @@ public class InvestigateWikipedia
     GraphCreator graph_holder; 
     String fileN;
     AdjListsGraph<String> graph; 
-    LinkedQueue<Integer> outDegrees; 
-    LinkedQueue<Integer> inDegrees; 
+    DegreeStats outDegrees; 
+    DegreeStats inDegrees; 
+    // computed the first time they are needed
+    Eccentricities eccentricities; 
+    PageRank pageRank; 
 
     /**
      * Constructor for objects of class InvestigateWikipedia
@@ -27,8 +31,9 @@ public class InvestigateWikipedia
         this.fileN = fileName; 
         graph_holder = new GraphCreator(fileN);  
         graph = graph_holder.getGraph(); 
-        outDegrees = graph.getOutdegrees(); 
-        inDegrees = graph.getIndegrees(); 
+        CompactGraph compact = graph.toCompactGraph(); 
+        outDegrees = new DegreeStats(compact.getOutdegrees()); 
+        inDegrees = new DegreeStats(compact.getIndegrees()); 
     }
 
     /**
@@ -46,84 +51,48 @@ public class InvestigateWikipedia
      * @param queue the queue to find the min and max of 
      */
     public void setIndegrees(LinkedQueue<Integer> queue) {
-        this.inDegrees = queue; 
+        int[] degrees = new int[queue.size()]; 
+        // copy the queue into an array, leaving the queue as it was
+        for (int i = 0; i < degrees.length; i++) {
+            degrees[i] = queue.dequeue(); 
+            queue.enqueue(degrees[i]); 
+        }
+        this.inDegrees = new DegreeStats(degrees); 
     }
 
     /**
-     * Calculates the average value of a queue of integers
-     * @param in_out a string representing which queue of degrees we want to look at ("in" or "out") 
-     * @return the average
+     * Gets the statistics of the indegrees or the outdegrees 
+     * @param in_out a string representing which degrees we want to look at ("in" or "out") 
+     * @return the degree statistics
      */
-    public float getAvg(String in_out) {
-        // queue of values that that you want to find the average of 
-        LinkedQueue<Integer> queue; 
-        // will hold copy of queue above 
-        LinkedQueue<Integer> temp = new LinkedQueue<Integer>(); 
+    public DegreeStats getDegreeStats(String in_out) {
         if (in_out.equals("in")) {
-            queue = this.inDegrees; 
+            return this.inDegrees; 
         } else {
-            queue = this.outDegrees; 
+            return this.outDegrees; 
         }
-        int sum = 0; 
-        int size = queue.size(); 
-        // loop through, add each degree/value to sum
-        for (int i = 0; i < size; i++) {
-            int deg = queue.dequeue(); 
-            sum += deg; 
-            temp.enqueue(deg); 
-        }
-        if (in_out.equals("in")) {
-            this.inDegrees = temp; 
-        } else {
-            this.outDegrees = temp; 
-        } 
-        // calculate average by dividing sum by the size of the queue
-        float avg = (float) sum / (float) size; 
-        return avg; 
     }
 
     /**
-     * Traverses a queue of integers and determines the min and max values
-     * @param in_out a string representing which queue of degrees we want to look at ("in" or "out") 
+     * Gets the average degree
+     * @param in_out a string representing which degrees we want to look at ("in" or "out") 
+     * @return the average
+     */
+    public float getAvg(String in_out) {
+        return (float) getDegreeStats(in_out).getMean(); 
+    }
+
+    /**
+     * Determines the min and max degrees
+     * @param in_out a string representing which degrees we want to look at ("in" or "out") 
      * @return linked list with the min, max
      */
     public LinkedList<Integer> reportMinMax(String in_out) {
         // Linked list that reports min and max
         LinkedList<Integer> stats = new LinkedList<Integer>(); 
-        // to store copy of indegrees/outdegrees queue
-        LinkedQueue<Integer> temp = new LinkedQueue<Integer>(); 
-        // stores either the indegrees queue or the outdegrees queue
-        LinkedQueue<Integer> queue; 
-        if (in_out.equals("in")) {
-            queue = this.inDegrees; 
-
-        } else {
-            queue = this.outDegrees; 
-        }
-        // Set min and max equal to the first item in the queue, initially
-        int size = queue.size(); 
-        int max = queue.dequeue(); 
-        int min = max; 
-        temp.enqueue(max);  
-        // Loop through the rest of the queue to find the min and max
-        for (int i = 1; i < size; i++) {
-            int elt = queue.dequeue(); 
-            if (max < elt) {
-                max = elt; 
-            }
-            if (min > elt) {
-                min = elt; 
-            }
-            temp.enqueue(elt); 
-        }
-        if (in_out.equals("in")) {
-            this.inDegrees = temp; 
-        } else {
-            this.outDegrees = temp; 
-        }  
-        // add the min and max to the linked list that reports the min and the max
-        stats.add(min); 
-        stats.add(max);
+        DegreeStats degrees = getDegreeStats(in_out); 
+        stats.add(degrees.getMin()); 
+        stats.add(degrees.getMax());
         return stats;
     }
 
@@ -133,68 +102,151 @@ public class InvestigateWikipedia
      * @return linked list of people
      */
     public LinkedList<String> getPeople(int val) {
-        // Holds names of important people
-        LinkedList<String> people = new LinkedList<String>(); 
-        // Holds indices of important people in list of vertices
-        LinkedList<Integer> indices = new LinkedList<Integer>(); 
-        // Will hold copy of queue of indegrees/outdegrees to look through
-        LinkedQueue<Integer> temp = new LinkedQueue<Integer>(); 
-        // The queue of indegrees/outdegrees to look through
-        LinkedQueue<Integer> queue = this.inDegrees; 
-        int size = queue.size(); 
-        for (int i = 0; i < size; i++) {
-            Integer elt = queue.dequeue(); 
-            temp.enqueue(elt); 
-            if (elt == val) {
-                indices.add(i); 
-            }
+        // looks the people up in the index of vertices by indegree, without scanning every degree
+        return toPeople(this.inDegrees.getVertices(val)); 
+    }
+
+    /**
+     * Gets a linked list of the k people with the most indegrees
+     * @param k the number of people
+     * @return linked list of people, the most linked to first
+     */
+    public LinkedList<String> getMostLinkedPeople(int k) {
+        return toPeople(this.inDegrees.getTopK(k)); 
+    }
+
+    /**
+     * Gets the k most important people, ranked by PageRank: a person is important when
+     * important people link to them, not just when many people do
+     * @param k the number of people
+     * @return linked list of people, the most important first
+     */
+    public LinkedList<String> getMostImportantPeople(int k) {
+        if (pageRank == null) {
+            pageRank = new PageRank(this.graph_holder.getGraph().toCompactGraph()); 
         }
-        for (int i = 0; i < indices.size(); i++) {
-            people.add(this.graph_holder.getGraph().getVertices().get(indices.get(i))); 
+        return toPeople(pageRank.getTopK(k)); 
+    }
+
+    /**
+     * Gets the k people who bridge the most shortest paths between other people (betweenness centrality)
+     * @param k the number of people
+     * @param pivots the number of people to sample shortest paths from, or 0 to use everyone (exact, but slow
+     * on the full graph)
+     * @return linked list of people, the strongest bridge first
+     */
+    public LinkedList<String> getBridgePeople(int k, int pivots) {
+        CompactGraph compact = this.graph_holder.getGraph().toCompactGraph(); 
+        Betweenness betweenness; 
+        if (pivots <= 0) {
+            betweenness = new Betweenness(compact); 
+        } else {
+            betweenness = new Betweenness(compact, pivots, 42); 
         }
-        return people; 
+        return toPeople(betweenness.getTopK(k)); 
+    }
+
+    /**
+     * Joins the people of the graph to their gender and domain, and counts the links between
+     * every pair of genders and every pair of domains
+     * @param people the table of people, such as the one read by InvestigateGender
+     * @return the gender and domain mixing matrices and their assortativity
+     */
+    public LinkMixing getLinkMixing(PersonTable people) {
+        return new LinkMixing(this.graph_holder.getGraph().toCompactGraph(), people); 
     }
 
     /**
-     * Runs BFS starting from a starting vertex to every other vertex in the list of vertices, 
-     * gets the length of each path, and reports the vertex with the longest path from the starting vertex 
+     * Compares the distributions of indegree, outdegree and path length of women and men in every domain
+     * @param people the table of people, such as the one read by InvestigateGender
+     * @return the p50, p90 and p99 of every metric for every gender and domain
+     */
+    public CentralityReport getCentralityReport(PersonTable people) {
+        return new CentralityReport(this.graph_holder.getGraph().toCompactGraph(), people, getEccentricities()); 
+    }
+
+    /**
+     * Runs one BFS from a starting vertex, which gives the length of the shortest path to every other vertex,
+     * and reports the vertices with the longest such path from the starting vertex 
      * @param start_vert the starting vertex
-     * @return a linked list of integers
+     * @return a linked list of the people furthest away from start_vert (empty if start_vert is not in the graph)
      */
     public LinkedList<String> getFurthestPeople(String start_vert) {
-        LinkedList<Integer> pathLengths = new LinkedList<Integer>();
         LinkedList<String> people = new LinkedList<String>(); 
-        Vector<String> verts = this.graph_holder.getGraph().getVertices(); 
-        // loop through the list of vertices, perform BFS from the start_vert to each of them, collects the path lengths in pathLengths
-        for (int i = 0; i < verts.size(); i++) {
-            LinkedList<String> path = this.graph_holder.getGraph().BreadthFirstSearch(start_vert, verts.get(i)); 
-            // length of the path is one less than the number of vertices in the linked list of vertices traversed 
-            int path_len = path.size() - 1; 
-            pathLengths.add(i); 
+        AdjListsGraph<String> graph = this.graph_holder.getGraph(); 
+        if (graph.indexOf(start_vert) == -1) {
+            return people; 
         }
+        Vector<String> verts = graph.getVertices(); 
+        // a single BFS gives the hop distance from start_vert to every vertex
+        BFSResult distances = graph.breadthFirstTree(start_vert); 
         /* 
-         * loops through pathLengths, determines maximum path length (if the graph is disconnected, it will still determine maximum path length, 
-         * because BFS will try its best to traverse the entire graph - thus, if there are disconnected components, those will be considered
-         * the farthest away
+         * the maximum path length only counts the vertices that can be reached from start_vert; vertices in other 
+         * components of a disconnected graph have no path at all
          */
-        int max_len = pathLengths.get(0); 
-        for (int i = 1; i < pathLengths.size(); i++) {
-            if (pathLengths.get(i) > max_len) {
-                max_len = pathLengths.get(i); 
-            }
-        }
+        int max_len = distances.getEccentricity(); 
         System.out.println("Maximum path length from " + start_vert + ": " + max_len); 
-        // loop through pathLengths again, determine people associated with maximum path length
-        for (int i = 0; i < pathLengths.size(); i++) {
-            if (max_len == pathLengths.get(i)) {
-                String person = verts.get(i); 
-                people.add(person); 
-            }
+        // the people associated with the maximum path length
+        int[] furthest = distances.getFurthest(); 
+        for (int i = 0; i < furthest.length; i++) {
+            people.add(verts.get(furthest[i])); 
         }
         // return the people with the maximum path length from the start_vert
         return people; 
     }
 
+    /**
+     * Gets the eccentricities of all people (how far away the furthest person each one can reach is),
+     * computing them the first time they are needed
+     * @return the eccentricities of the graph
+     */
+    public Eccentricities getEccentricities() {
+        if (eccentricities == null) {
+            eccentricities = this.graph_holder.getGraph().getEccentricities(); 
+        }
+        return eccentricities; 
+    }
+
+    /**
+     * Gets the people in the center of the graph, whose furthest reachable person is closest (the radius)
+     * @return linked list of the people in the center
+     */
+    public LinkedList<String> getCenterPeople() {
+        return toPeople(getEccentricities().getCenter()); 
+    }
+
+    /**
+     * Gets the people in the periphery of the graph, whose furthest reachable person is furthest away (the diameter)
+     * @return linked list of the people in the periphery
+     */
+    public LinkedList<String> getPeripheryPeople() {
+        return toPeople(getEccentricities().getPeriphery()); 
+    }
+
+    /**
+     * Answers many "how far is X from Y" questions at once, running the searches concurrently;
+     * every answer also holds a shortest path
+     * @param pairs the questions, each an array {source name, target name}
+     * @return the answers, in the order the searches finish
+     */
+    public Stream<BatchPathQueries.Answer> getDistances(List<String[]> pairs) {
+        return new BatchPathQueries(this.graph_holder.getGraph().toCompactGraph()).query(pairs); 
+    }
+
+    /**
+     * Converts vertex indices to the names of the people at those indices
+     * @param indices the indices in the list of vertices
+     * @return linked list of people
+     */
+    private LinkedList<String> toPeople(int[] indices) {
+        LinkedList<String> people = new LinkedList<String>(); 
+        Vector<String> verts = this.graph_holder.getGraph().getVertices(); 
+        for (int i = 0; i < indices.length; i++) {
+            people.add(verts.get(indices[i])); 
+        }
+        return people; 
+    }
+
     /**
      * Main method for investigation of Wikipedia dataset
      */
@@ -229,7 +281,19 @@ public class InvestigateWikipedia
         System.out.println("Avg of outdegrees: " + test.getAvg("out")); 
         System.out.println("The most important people have 40 indegrees."); 
         System.out.println("The most important people: " + test.getPeople(40)); 
+        System.out.println("The 10 most linked to people: " + test.getMostLinkedPeople(10)); 
+        System.out.println("The 10 most important people by PageRank: " + test.getMostImportantPeople(10)); 
+        System.out.println("The 10 strongest bridges between people: " + test.getBridgePeople(10, 0)); 
+        System.out.println("Median and 99th percentile of indegrees: " + test.getDegreeStats("in").getPercentile(50) + ", " + test.getDegreeStats("in").getPercentile(99)); 
         System.out.println("The people farthest with the maximum path length from the most important person: " + test.getFurthestPeople("Bill Clinton").toString());
+        System.out.println("Radius and diameter: " + test.getEccentricities().getRadius() + ", " + test.getEccentricities().getDiameter()); 
+        System.out.println("The people in the center: " + test.getCenterPeople()); 
+        System.out.println("The people in the periphery: " + test.getPeripheryPeople()); 
+        LinkMixing mixing = test.getLinkMixing(new InvestigateGender("pantheon_nodes_1000.csv").getPeople()); 
+        System.out.println("Links by gender and domain: \n" + mixing); 
+        System.out.println("Degrees and path lengths by gender and domain: \n" + test.getCentralityReport(new InvestigateGender("pantheon_nodes_1000.csv").getPeople())); 
+        List<String[]> questions = Arrays.asList(new String[] { "Bill Clinton", "Andy Warhol" }, new String[] { "Andy Warhol", "Pope Leo III" }); 
+        test.getDistances(questions).forEach(System.out::println); 
         */
        System.out.println("Number of vertices: " + test.graph.getVertices().size()); 
     } 
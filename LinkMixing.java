@@ -0,0 +1,246 @@
+/**
+ * Who links to whom: joins the vertices of the link graph to a PersonTable by name, then counts
+ * the arcs between every pair of genders (or domains, or values of any other column) in a
+ * mixing matrix, and sums the matrix up in Newman's assortativity coefficient. The coefficient
+ * is 1 when people only link to people of their own kind, 0 when links ignore the attribute,
+ * and negative when people mostly link to people unlike them.
+ *
+ * Every vertex gets the codes of its person's values in a primitive array first; the arcs are
+ * then walked once, in parallel chunks of vertices, each chunk counting into its own partial
+ * matrices, which are added up at the end. Arcs with an end that has no row in the table are
+ * left out of every matrix.
+ *
+ * @version 10/17/26
+ */
+import java.util.stream.IntStream;
+public class LinkMixing
+{
+    // vertices per parallel task
+    static final int CHUNK = 4096;
+
+    // instance variables
+    private final PersonTable people;
+    private final String[] columns;
+    // matrices[k][i][j] is the number of arcs from value i to value j of columns[k]
+    private final long[][][] matrices;
+    private final int matchedVertices;
+    private final long unmatchedArcs;
+
+    /**
+     * Constructor for objects of class LinkMixing, mixing by gender and by domain
+     * @param graph the link graph, whose vertices are named after people
+     * @param people the table giving the gender and domain of the people
+     */
+    public LinkMixing(CompactGraph graph, PersonTable people) {
+        this(graph, people, PersonTable.GENDER, PersonTable.DOMAIN);
+    }
+
+    /**
+     * Constructor for objects of class LinkMixing, mixing by any columns of the table
+     * @param graph the link graph, whose vertices are named after people
+     * @param people the table giving the values of the people
+     * @param columns the names of the columns to mix by
+     * @throws IllegalArgumentException if the table has no column of one of the names
+     */
+    public LinkMixing(CompactGraph graph, PersonTable people, String... columns) {
+        this.people = people;
+        this.columns = columns.clone();
+        int n = graph.getNumVertices();
+        int[] rows = people.getRows(graph);
+        int matched = 0;
+        for (int v = 0; v < n; v++) {
+            if (rows[v] >= 0) {
+                matched++;
+            }
+        }
+        this.matchedVertices = matched;
+        // codes[k][v] is the code of vertex v in column k, or -1 if v has no row
+        int[][] codes = new int[columns.length][n];
+        int[] sizes = new int[columns.length];
+        // the matrices of all columns one after the other, from base[k] on
+        int[] base = new int[columns.length + 1];
+        for (int k = 0; k < columns.length; k++) {
+            DictionaryColumn column = people.getColumn(columns[k]);
+            if (column == null) {
+                throw new IllegalArgumentException("no column " + columns[k]);
+            }
+            for (int v = 0; v < n; v++) {
+                codes[k][v] = rows[v] < 0 ? -1 : column.getCode(rows[v]);
+            }
+            sizes[k] = column.getNumValues();
+            base[k + 1] = base[k] + sizes[k] * sizes[k];
+        }
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int cells = base[columns.length];
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        // the last cell of each partial result counts the arcs left out
+        long[] total = IntStream.range(0, chunks).parallel()
+            .mapToObj(chunk -> {
+                long[] partial = new long[cells + 1];
+                for (int u = chunk * CHUNK; u < Math.min(n, (chunk + 1) * CHUNK); u++) {
+                    if (rows[u] < 0) {
+                        partial[cells] += offsets[u + 1] - offsets[u];
+                        continue;
+                    }
+                    for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                        int v = targets[i];
+                        if (rows[v] < 0) {
+                            partial[cells]++;
+                            continue;
+                        }
+                        for (int k = 0; k < codes.length; k++) {
+                            partial[base[k] + codes[k][u] * sizes[k] + codes[k][v]]++;
+                        }
+                    }
+                }
+                return partial;
+            })
+            .reduce(new long[cells + 1], (a, b) -> {
+                long[] sum = new long[cells + 1];
+                for (int i = 0; i <= cells; i++) {
+                    sum[i] = a[i] + b[i];
+                }
+                return sum;
+            });
+        this.unmatchedArcs = total[cells];
+        this.matrices = new long[columns.length][][];
+        for (int k = 0; k < columns.length; k++) {
+            matrices[k] = new long[sizes[k]][sizes[k]];
+            for (int i = 0; i < sizes[k]; i++) {
+                System.arraycopy(total, base[k] + i * sizes[k], matrices[k][i], 0, sizes[k]);
+            }
+        }
+    }
+
+    /**
+     * Finds a column among those mixed by
+     */
+    private int indexOf(String column) {
+        for (int k = 0; k < columns.length; k++) {
+            if (columns[k].equals(column)) {
+                return k;
+            }
+        }
+        throw new IllegalArgumentException("not mixed by " + column);
+    }
+
+    /**
+     * Gets the mixing matrix of a column
+     * @param column the name of a column mixed by, such as PersonTable.GENDER
+     * @return a new matrix whose element [i][j] is the number of arcs from a person with value code i
+     * to a person with value code j
+     */
+    public long[][] getMatrix(String column) {
+        long[][] matrix = matrices[indexOf(column)];
+        long[][] copy = new long[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the number of arcs between two values of a column
+     * @param column the name of a column mixed by
+     * @param from the value of the person the arcs leave, such as "Female"
+     * @param to the value of the person the arcs enter, such as "Male"
+     * @return the number of such arcs
+     */
+    public long getCount(String column, String from, String to) {
+        long[][] matrix = matrices[indexOf(column)];
+        int i = people.getColumn(column).getCodeOf(from);
+        int j = people.getColumn(column).getCodeOf(to);
+        return i < 0 || j < 0 || i >= matrix.length || j >= matrix.length ? 0 : matrix[i][j];
+    }
+
+    /**
+     * Gets the assortativity coefficient of a column
+     * @param column the name of a column mixed by
+     * @return Newman's assortativity coefficient, between -1 and 1
+     */
+    public double getAssortativity(String column) {
+        return assortativity(matrices[indexOf(column)]);
+    }
+
+    /**
+     * Computes Newman's assortativity coefficient of a mixing matrix:
+     * r = (sum of e_ii - sum of a_i b_i) / (1 - sum of a_i b_i), where e is the matrix divided by its
+     * total, a_i the sum of row i of e and b_i the sum of column i of e
+     * @param matrix the number of arcs between every pair of values
+     * @return the coefficient, or NaN if the matrix is empty or only one value is ever linked
+     */
+    public static double assortativity(long[][] matrix) {
+        double total = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix.length; j++) {
+                total += matrix[i][j];
+            }
+        }
+        double trace = 0;
+        double expected = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            double a = 0;
+            double b = 0;
+            for (int j = 0; j < matrix.length; j++) {
+                a += matrix[i][j];
+                b += matrix[j][i];
+            }
+            trace += matrix[i][i] / total;
+            expected += (a / total) * (b / total);
+        }
+        return (trace - expected) / (1 - expected);
+    }
+
+    /**
+     * Gets the number of vertices that were found in the table
+     * @return the number of vertices with a row
+     */
+    public int getMatchedVertices() {
+        return matchedVertices;
+    }
+
+    /**
+     * Gets the number of arcs left out because one of their ends was not found in the table
+     * @return the number of arcs left out
+     */
+    public long getUnmatchedArcs() {
+        return unmatchedArcs;
+    }
+
+    /**
+     * Formats the mixing matrix of a column as a table
+     * @param column the name of a column mixed by
+     * @return one line per value the arcs leave, with the number of arcs to every value
+     */
+    public String toString(String column) {
+        long[][] matrix = matrices[indexOf(column)];
+        DictionaryColumn values = people.getColumn(column);
+        StringBuilder result = new StringBuilder("from \\ to");
+        for (int j = 0; j < matrix.length; j++) {
+            result.append('\t').append(values.getValue(j));
+        }
+        result.append('\n');
+        for (int i = 0; i < matrix.length; i++) {
+            result.append(values.getValue(i));
+            for (int j = 0; j < matrix.length; j++) {
+                result.append('\t').append(matrix[i][j]);
+            }
+            result.append('\n');
+        }
+        result.append(String.format("assortativity %.4f%n", assortativity(matrix)));
+        return result.toString();
+    }
+
+    /**
+     * Formats the mixing matrices of all columns
+     * @return the table of every column mixed by, one after the other
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int k = 0; k < columns.length; k++) {
+            result.append(columns[k]).append('\n').append(toString(columns[k]));
+        }
+        return result.toString();
+    }
+}
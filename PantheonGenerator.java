@@ -0,0 +1,360 @@
+/**
+ * Generates synthetic datasets shaped like Pantheon, for testing the readers and analyses at
+ * sizes far beyond the real data: a nodes CSV file with the same columns as pantheon_nodes, an
+ * edges CSV file like pantheon_edges, and the same graph as a TGF file.
+ *
+ * The output depends only on the number of people, the number of links and the seed. Nothing
+ * is kept per person or per link: the attributes of person i are drawn from a random generator
+ * seeded by the seed and i, and the links are drawn one after the other from a generator seeded
+ * by the seed alone, so any size is written in the same small amount of memory. Links fall on
+ * people by rank, with power-law (Zipf) weights, so a few people get most of the links; the ranks
+ * are spread over the people by a bijective scramble (a * rank + b) mod n, a different one for
+ * sources and targets. The share of people in every domain, and the share of women in every
+ * domain, roughly follow the real Pantheon data. No link goes from a person to themselves, but
+ * with no memory of earlier links a link can repeat; the graph readers keep one arc for it.
+ *
+ * @version 10/17/26
+ */
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+public class PantheonGenerator
+{
+    static final String NODES_HEADER = "en_curid,name,numlangs,birthcity,countryName,gender,birthyear,occupation,domain";
+    static final String EDGES_HEADER = "from_name,to_name";
+    // Zipf exponents of the rank weights; targets are far more skewed than sources, as on Wikipedia
+    static final double TARGET_EXPONENT = 0.9;
+    static final double SOURCE_EXPONENT = 0.5;
+
+    static final String[] DOMAINS = { "INSTITUTIONS", "ARTS", "HUMANITIES", "SCIENCE & TECHNOLOGY", "SPORTS",
+        "PUBLIC FIGURE", "BUSINESS & LAW", "EXPLORATION" };
+    // percentage of people in every domain, and percentage of women among them
+    static final double[] DOMAIN_SHARES = { 26, 25, 17, 15, 11, 3, 2, 1 };
+    static final double[] FEMALE_SHARES = { 7, 22, 7, 3, 8, 40, 5, 3 };
+    static final String[][] OCCUPATIONS = {
+        { "POLITICIAN", "RELIGIOUS FIGURE", "MILITARY PERSONNEL", "NOBLEMAN" },
+        { "ACTOR", "SINGER", "MUSICIAN", "PAINTER", "COMPOSER" },
+        { "WRITER", "PHILOSOPHER", "HISTORIAN" },
+        { "PHYSICIST", "MATHEMATICIAN", "INVENTOR", "CHEMIST", "BIOLOGIST" },
+        { "SOCCER PLAYER", "TENNIS PLAYER", "RACECAR DRIVER", "SWIMMER" },
+        { "SOCIALITE", "COMPANION" },
+        { "BUSINESSPERSON", "LAWYER", "PRODUCER" },
+        { "EXPLORER", "ASTRONAUT" } };
+    static final String[] MALE_NAMES = { "Adam", "Carlos", "Erik", "Hugo", "Ivan", "Jonas", "Kenji", "Luca",
+        "Marcus", "Omar", "Pavel", "Rafael", "Samuel", "Tomas", "Viktor", "Yusuf" };
+    static final String[] FEMALE_NAMES = { "Ada", "Beatriz", "Clara", "Elena", "Greta", "Hana", "Ines", "Julia",
+        "Lena", "Maria", "Nadia", "Olga", "Priya", "Rosa", "Sofia", "Yara" };
+    static final String[] SURNAMES = { "Almeida", "Becker", "Castell", "Dumont", "Ferreira", "Gallo", "Hoffmann",
+        "Ishikawa", "Jansen", "Kowalski", "Laurent", "Moreau", "Novak", "Okafor", "Petrov", "Rossi", "Santos",
+        "Tanaka", "Varga", "Weber" };
+    // a city and its country on every line; some city names hold a comma, so the CSV must quote them
+    static final String[][] PLACES = { { "Paris", "France" }, { "London", "United Kingdom" },
+        { "New York", "United States" }, { "Washington, D.C.", "United States" }, { "Rome", "Italy" },
+        { "Berlin", "Germany" }, { "Vienna", "Austria" }, { "Moscow", "Russia" }, { "Tokyo", "Japan" },
+        { "Rio de Janeiro", "Brazil" }, { "Cairo", "Egypt" }, { "Madrid", "Spain" }, { "Athens", "Greece" },
+        { "Beijing", "China" }, { "Lagos", "Nigeria" }, { "Mumbai", "India" } };
+
+    // instance variables
+    private final int people;
+    private final long links;
+    private final long seed;
+    private final Scramble sources;
+    private final Scramble targets;
+
+    /**
+     * Constructor for objects of class PantheonGenerator
+     * @param people the number of people, at least 2
+     * @param links the number of links between them
+     * @param seed the seed of all random choices
+     */
+    public PantheonGenerator(int people, long links, long seed)
+    {
+        if (people < 2 || links < 0) {
+            throw new IllegalArgumentException("need at least 2 people and no negative links");
+        }
+        this.people = people;
+        this.links = links;
+        this.seed = seed;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.sources = new Scramble(people, random);
+        this.targets = new Scramble(people, random);
+    }
+
+    /**
+     * A bijection of 0..n-1 onto itself, i -> (a * i + b) mod n with a coprime to n
+     */
+    private static class Scramble
+    {
+        final long n;
+        final long a;
+        final long b;
+        final long inverse;
+
+        Scramble(int n, SplittableRandom random) {
+            this.n = n;
+            long a = 1 + random.nextLong(n - 1);
+            while (gcd(a, n) != 1) {
+                a = a % (n - 1) + 1;
+            }
+            this.a = a;
+            this.b = random.nextLong(n);
+            this.inverse = BigInteger.valueOf(a).modInverse(BigInteger.valueOf(n)).longValue();
+        }
+
+        int apply(long i) {
+            return (int) ((a * i + b) % n);
+        }
+
+        int invert(long i) {
+            return (int) (inverse * ((i - b + n) % n) % n);
+        }
+
+        static long gcd(long x, long y) {
+            return y == 0 ? x : gcd(y, x % y);
+        }
+    }
+
+    /**
+     * Draws a rank 0..n-1 with weight proportional to (rank + 1)^-exponent, by inverting the
+     * distribution function of the continuous power law on [1, n + 1)
+     */
+    private static long zipf(SplittableRandom random, long n, double exponent) {
+        double u = random.nextDouble();
+        double rank;
+        if (exponent == 1) {
+            rank = Math.pow(n + 1, u);
+        } else {
+            double power = 1 - exponent;
+            rank = Math.pow(1 + u * (Math.pow(n + 1, power) - 1), 1 / power);
+        }
+        return Math.min(n - 1, (long) rank - 1);
+    }
+
+    /**
+     * Gets the generator of the attributes of a person
+     */
+    private SplittableRandom personRandom(int i) {
+        return new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (i + 1)));
+    }
+
+    /**
+     * Picks an index from a list of percentages
+     */
+    private static int pick(SplittableRandom random, double[] shares) {
+        double total = 0;
+        for (double share : shares) {
+            total += share;
+        }
+        double u = random.nextDouble() * total;
+        for (int i = 0; i < shares.length - 1; i++) {
+            u -= shares[i];
+            if (u < 0) {
+                return i;
+            }
+        }
+        return shares.length - 1;
+    }
+
+    /**
+     * Gets the number of people
+     * @return the number of people the generator writes
+     */
+    public int getNumPeople() {
+        return people;
+    }
+
+    /**
+     * Gets the number of links
+     * @return the number of links the generator writes
+     */
+    public long getNumLinks() {
+        return links;
+    }
+
+    /**
+     * Gets the name of a person, which is different for every person
+     * @param i the index of the person, 0 to getNumPeople() - 1
+     * @return the name of the person
+     */
+    public String getName(int i) {
+        SplittableRandom random = personRandom(i);
+        int domain = pick(random, DOMAIN_SHARES);
+        return name(random, i, random.nextDouble() * 100 < FEMALE_SHARES[domain]);
+    }
+
+    /**
+     * Draws the first name and surname of a person, and numbers them to keep names unique
+     */
+    private static String name(SplittableRandom random, int i, boolean female) {
+        String[] first = female ? FEMALE_NAMES : MALE_NAMES;
+        return first[random.nextInt(first.length)] + " " + SURNAMES[random.nextInt(SURNAMES.length)] + " " + (i + 1);
+    }
+
+    /**
+     * Gets the row of a person in the nodes CSV file
+     * @param i the index of the person, 0 to getNumPeople() - 1
+     * @return the fields of the row, in the order of the columns of pantheon_nodes
+     */
+    public String[] getPerson(int i) {
+        SplittableRandom random = personRandom(i);
+        int domain = pick(random, DOMAIN_SHARES);
+        boolean female = random.nextDouble() * 100 < FEMALE_SHARES[domain];
+        String name = name(random, i, female);
+        String[] place = PLACES[random.nextInt(PLACES.length)];
+        String[] occupations = OCCUPATIONS[domain];
+        // the most linked people are translated into the most languages
+        long rank = targets.invert(i);
+        int numlangs = 15 + (int) (180 / Math.sqrt(rank + 1)) + random.nextInt(10);
+        // most people were born in the last few centuries, a few long before
+        int birthyear = 1990 - (int) Math.min(4000, -Math.log(1 - random.nextDouble()) * 250);
+        return new String[] { String.valueOf(i + 1), name, String.valueOf(numlangs), place[0], place[1],
+            female ? "Female" : "Male", String.valueOf(birthyear), occupations[random.nextInt(occupations.length)],
+            DOMAINS[domain] };
+    }
+
+    /**
+     * Writes the nodes CSV file, one row for every person
+     * @param fileName the name of the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeNodes(String fileName) throws IOException {
+        Writer writer = open(fileName);
+        try {
+            writer.write(NODES_HEADER);
+            writer.write('\n');
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < people; i++) {
+                line.setLength(0);
+                String[] fields = getPerson(i);
+                for (int f = 0; f < fields.length; f++) {
+                    if (f > 0) {
+                        line.append(',');
+                    }
+                    appendField(line, fields[f]);
+                }
+                line.append('\n');
+                writer.append(line);
+            }
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the edges CSV file, one row for every link, naming the two people
+     * @param fileName the name of the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeEdges(String fileName) throws IOException {
+        Writer writer = open(fileName);
+        try {
+            writer.write(EDGES_HEADER);
+            writer.write('\n');
+            SplittableRandom random = linkRandom();
+            StringBuilder line = new StringBuilder();
+            int[] link = new int[2];
+            for (long k = 0; k < links; k++) {
+                nextLink(random, link);
+                line.setLength(0);
+                appendField(line, getName(link[0]));
+                line.append(',');
+                appendField(line, getName(link[1]));
+                line.append('\n');
+                writer.append(line);
+            }
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the graph of the people and links in the TGF format, every person a vertex
+     * numbered from 1 in the order of the nodes file, and every link an arc
+     * @param fileName the name of the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTGF(String fileName) throws IOException {
+        Writer writer = open(fileName);
+        try {
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < people; i++) {
+                line.setLength(0);
+                line.append(i + 1).append(' ').append(getName(i)).append('\n');
+                writer.append(line);
+            }
+            writer.write("#\n");
+            SplittableRandom random = linkRandom();
+            int[] link = new int[2];
+            for (long k = 0; k < links; k++) {
+                nextLink(random, link);
+                line.setLength(0);
+                line.append(link[0] + 1).append(' ').append(link[1] + 1).append('\n');
+                writer.append(line);
+            }
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Gets the generator of the links, the same for every file so they all hold the same links
+     */
+    private SplittableRandom linkRandom() {
+        return new SplittableRandom(~seed);
+    }
+
+    /**
+     * Draws the next link into link, as {from, to}
+     */
+    private void nextLink(SplittableRandom random, int[] link) {
+        do {
+            link[0] = sources.apply(zipf(random, people, SOURCE_EXPONENT));
+            link[1] = targets.apply(zipf(random, people, TARGET_EXPONENT));
+        } while (link[0] == link[1]);
+    }
+
+    /**
+     * Opens a file for writing in UTF-8
+     */
+    private static Writer open(String fileName) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    /**
+     * Appends a CSV field, quoted if it holds a comma, a quote or a line break
+     */
+    private static void appendField(StringBuilder line, String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            line.append(field);
+        } else {
+            line.append('"').append(field.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    /**
+     * Writes a synthetic dataset: prefix_nodes.csv, prefix_edges.csv and prefix.tgf
+     * @param args the number of people, the number of links, the seed and the prefix of the
+     * file names; by default 1000 people, 8000 links, seed 1 and prefix "synthetic"
+     */
+    public static void main(String[] args) {
+        int people = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long links = args.length > 1 ? Long.parseLong(args[1]) : 8000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+        String prefix = args.length > 3 ? args[3] : "synthetic";
+        PantheonGenerator generator = new PantheonGenerator(people, links, seed);
+        try {
+            long start = System.nanoTime();
+            generator.writeNodes(prefix + "_nodes.csv");
+            generator.writeEdges(prefix + "_edges.csv");
+            generator.writeTGF(prefix + ".tgf");
+            System.out.printf("Wrote %d people and %d links in %.3f s%n", people, links, (System.nanoTime() - start) / 1e9);
+        }
+        catch (IOException e) {
+            System.out.println(e);
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/**
+ * A columnar table of people: one array of names plus dictionary-encoded gender and domain
+ * columns, with row i describing one person. Other columns of the file, such as country or
+ * birth year, can be kept too, and derived columns (such as birth century) computed from them.
+ * Filters and counts run in one pass over the primitive code arrays, and Person objects are
+ * only created for the rows asked for. A table is filled by one thread and may then be read by
+ * any number of threads.
+ *
+ * @version 10/17/26
+ */
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.io.IOException;
+public class PersonTable
+{
+    // columns of the Pantheon nodes CSV file that are always read
+    static final int NAME_COLUMN = 1;
+    static final int GENDER_COLUMN = 5;
+    static final int DOMAIN_COLUMN = 8;
+    // names of the gender and domain columns in getColumn
+    public static final String GENDER = "gender";
+    public static final String DOMAIN = "domain";
+
+    // instance variables
+    private String[] names;
+    private int size;
+    private final DictionaryColumn genders;
+    private final DictionaryColumn domains;
+    // other columns, by name: those given a value in add, then those derived from another column
+    private final LinkedHashMap<String, DictionaryColumn> others;
+    private final ArrayList<String> addedColumns;
+    private final ArrayList<String> derivedColumns;
+    private final HashMap<String, String> sourceOf;
+    private final HashMap<String, UnaryOperator<String>> functionOf;
+    // row of every name, built on the first lookup by name
+    private HashMap<String, Integer> rows;
+
+    /**
+     * Constructor for objects of class PersonTable, creates an empty table
+     * @param columns the names of the columns other than name, gender and domain that every person has
+     */
+    public PersonTable(String... columns) {
+        this.names = new String[16];
+        this.genders = new DictionaryColumn();
+        this.domains = new DictionaryColumn();
+        this.others = new LinkedHashMap<String, DictionaryColumn>();
+        this.addedColumns = new ArrayList<String>();
+        this.derivedColumns = new ArrayList<String>();
+        this.sourceOf = new HashMap<String, String>();
+        this.functionOf = new HashMap<String, UnaryOperator<String>>();
+        for (int i = 0; i < columns.length; i++) {
+            checkNewColumn(columns[i]);
+            others.put(columns[i], new DictionaryColumn());
+            addedColumns.add(columns[i]);
+        }
+    }
+
+    /**
+     * Reads a Pantheon nodes CSV file, skipping the header line, and keeps the name, gender and
+     * domain columns of every row, plus any other columns asked for by their name in the header.
+     * The file is parsed in parallel by CSVReader, which handles quoted fields, and only these
+     * columns are decoded. Rows without a domain column, or without one of the other columns,
+     * are skipped.
+     * @param fileName the name of the CSV file to read
+     * @param columns the header names of other columns to keep, such as "countryName" or "birthyear"
+     * @return a table with one row per person, in file order
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the header has no column of one of the names
+     */
+    public static PersonTable fromCSV(String fileName, String... columns) throws IOException {
+        PersonTable table = new PersonTable(columns);
+        CSVReader reader = new CSVReader(fileName);
+        int[] others = reader.getColumns(columns);
+        int[] wanted = new int[3 + others.length];
+        wanted[0] = NAME_COLUMN;
+        wanted[1] = GENDER_COLUMN;
+        wanted[2] = DOMAIN_COLUMN;
+        System.arraycopy(others, 0, wanted, 3, others.length);
+        String[] values = new String[others.length];
+        reader.read(wanted, record -> {
+            for (int i = 0; i < record.length; i++) {
+                if (record[i] == null) {
+                    return;
+                }
+            }
+            System.arraycopy(record, 3, values, 0, values.length);
+            table.add(record[0], record[1], record[2], values);
+        });
+        return table;
+    }
+
+    /**
+     * Makes sure a name can be used for a new column
+     */
+    private void checkNewColumn(String column) {
+        if (column.equals(GENDER) || column.equals(DOMAIN) || others.containsKey(column)) {
+            throw new IllegalArgumentException("column " + column + " already exists");
+        }
+    }
+
+    /**
+     * Adds a column computed from another column, such as the birth century from the birth year.
+     * The function is applied once per distinct value, and again to the people added later.
+     * @param column the name of the new column
+     * @param source the name of the column it is computed from
+     * @param function computes a value of the new column from a value of the source column
+     * @throws IllegalArgumentException if there is no source column, or already a column of that name
+     */
+    public void addDerivedColumn(String column, String source, UnaryOperator<String> function) {
+        DictionaryColumn from = getColumn(source);
+        if (from == null) {
+            throw new IllegalArgumentException("no column " + source);
+        }
+        checkNewColumn(column);
+        others.put(column, from.map(function));
+        derivedColumns.add(column);
+        sourceOf.put(column, source);
+        functionOf.put(column, function);
+    }
+
+    /**
+     * Turns a year into the name of its century, for use as the function of a derived column
+     * @param year a year, negative for years BC
+     * @return the century, such as "15th century" for 1451 or "5th century BC" for -450,
+     * or "" if year is not a number
+     */
+    public static String century(String year) {
+        int value;
+        try {
+            value = Integer.parseInt(year.trim());
+        }
+        catch (NumberFormatException e) {
+            return "";
+        }
+        boolean bc = value <= 0;
+        // there is no year 0; treat it as 1 BC
+        int number = (Math.max(Math.abs(value), 1) - 1) / 100 + 1;
+        String suffix = "th";
+        if (number % 100 < 11 || number % 100 > 13) {
+            if (number % 10 == 1) {
+                suffix = "st";
+            } else if (number % 10 == 2) {
+                suffix = "nd";
+            } else if (number % 10 == 3) {
+                suffix = "rd";
+            }
+        }
+        return number + suffix + " century" + (bc ? " BC" : "");
+    }
+
+    /**
+     * Adds a person to the end of the table
+     * @param name the name of the person
+     * @param gender the gender of the person
+     * @param domain the professional domain of the person
+     * @param values the values of the other columns given to the constructor, in the same order
+     * @return the row of the new person
+     * @throws IllegalArgumentException if the number of values does not match the columns
+     */
+    public int add(String name, String gender, String domain, String... values) {
+        if (values.length != addedColumns.size()) {
+            throw new IllegalArgumentException("expected " + addedColumns.size() + " other values, got " + values.length);
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        genders.add(gender);
+        domains.add(domain);
+        for (int i = 0; i < values.length; i++) {
+            others.get(addedColumns.get(i)).add(values[i]);
+        }
+        for (int i = 0; i < derivedColumns.size(); i++) {
+            String column = derivedColumns.get(i);
+            DictionaryColumn source = getColumn(sourceOf.get(column));
+            others.get(column).add(functionOf.get(column).apply(source.get(size)));
+        }
+        names[size] = name;
+        if (rows != null) {
+            rows.putIfAbsent(name, size);
+        }
+        return size++;
+    }
+
+    /**
+     * Gets the number of people
+     * @return the number of rows in the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the name of a person
+     * @param row the row of the person
+     * @return the name in that row
+     */
+    public String getName(int row) {
+        return names[row];
+    }
+
+    /**
+     * Gets the gender of a person
+     * @param row the row of the person
+     * @return the gender in that row
+     */
+    public String getGender(int row) {
+        return genders.get(row);
+    }
+
+    /**
+     * Gets the domain of a person
+     * @param row the row of the person
+     * @return the domain in that row
+     */
+    public String getDomain(int row) {
+        return domains.get(row);
+    }
+
+    /**
+     * Gets the gender column
+     * @return the dictionary-encoded genders of all rows
+     */
+    public DictionaryColumn getGenders() {
+        return genders;
+    }
+
+    /**
+     * Gets the domain column
+     * @return the dictionary-encoded domains of all rows
+     */
+    public DictionaryColumn getDomains() {
+        return domains;
+    }
+
+    /**
+     * Gets a column by name
+     * @param column GENDER, DOMAIN, or the name of another column of this table
+     * @return the dictionary-encoded values of that column, or null if there is no such column
+     */
+    public DictionaryColumn getColumn(String column) {
+        if (column.equals(GENDER)) {
+            return genders;
+        }
+        if (column.equals(DOMAIN)) {
+            return domains;
+        }
+        return others.get(column);
+    }
+
+    /**
+     * Gets the names of all columns that can be grouped by
+     * @return GENDER, DOMAIN and the names of the other columns, in the order they were added
+     */
+    public LinkedList<String> getColumnNames() {
+        LinkedList<String> result = new LinkedList<String>();
+        result.add(GENDER);
+        result.add(DOMAIN);
+        result.addAll(others.keySet());
+        return result;
+    }
+
+    /**
+     * Counts the people of every gender for every value of a column, in one parallel pass
+     * @param column the column to group by, such as DOMAIN, a country column or a derived century column
+     * @return the counts, one row per value of the column and one column per gender
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public CrossTab getGenderCrossTab(String column) {
+        DictionaryColumn groups = getColumn(column);
+        if (groups == null) {
+            throw new IllegalArgumentException("no column " + column);
+        }
+        return CrossTab.of(groups, genders);
+    }
+
+    /**
+     * Creates a Person object for a row
+     * @param row the row of the person
+     * @return a Person holding the row's name, gender and domain
+     */
+    public Person getPerson(int row) {
+        return new Person(names[row], genders.get(row), domains.get(row));
+    }
+
+    /**
+     * Finds the row of a person by name, from an index built on the first call
+     * @param name the name of the person
+     * @return the first row with that name, or -1 if there is none
+     */
+    public synchronized int getRow(String name) {
+        if (rows == null) {
+            rows = new HashMap<String, Integer>(size * 2);
+            for (int i = 0; i < size; i++) {
+                rows.putIfAbsent(names[i], i);
+            }
+        }
+        Integer row = rows.get(name);
+        return row == null ? -1 : row;
+    }
+
+    /**
+     * Joins the vertices of a graph to this table by name
+     * @param graph a graph whose vertices are named after people
+     * @return the row of every vertex, by vertex index, or -1 for a vertex with no row in this table
+     */
+    public int[] getRows(CompactGraph graph) {
+        int[] result = new int[graph.getNumVertices()];
+        for (int v = 0; v < result.length; v++) {
+            result[v] = getRow(graph.getName(v));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the rows with a given value in a column, in one pass over its codes
+     * @param column the column to filter on, getGenders() or getDomains()
+     * @param value the value wanted
+     * @return the matching rows, in increasing order
+     */
+    public int[] getRowsWhere(DictionaryColumn column, String value) {
+        int code = column.getCodeOf(value);
+        if (code < 0) {
+            return new int[0];
+        }
+        short[] codes = column.getCodes();
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (codes[i] == code) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Creates Person objects for a set of rows
+     * @param rowList the rows wanted
+     * @return a linked list with a Person for every row, in the same order
+     */
+    public LinkedList<Person> getPeople(int[] rowList) {
+        LinkedList<Person> people = new LinkedList<Person>();
+        for (int i = 0; i < rowList.length; i++) {
+            people.add(getPerson(rowList[i]));
+        }
+        return people;
+    }
+
+    /**
+     * Counts the people of every gender within a domain, in one pass over the code columns
+     * @param domain the domain to count in, or null to count everybody
+     * @return an array whose element c is the number of people of gender code c in the domain
+     */
+    public int[] getGenderCounts(String domain) {
+        int[] counts = new int[genders.getNumValues()];
+        short[] genderCodes = genders.getCodes();
+        if (domain == null) {
+            for (int i = 0; i < size; i++) {
+                counts[genderCodes[i]]++;
+            }
+            return counts;
+        }
+        int code = domains.getCodeOf(domain);
+        if (code < 0) {
+            return counts;
+        }
+        short[] domainCodes = domains.getCodes();
+        for (int i = 0; i < size; i++) {
+            if (domainCodes[i] == code) {
+                counts[genderCodes[i]]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Creates a short description of this table
+     * @return the number of people, genders and domains in this table
+     */
+    public String toString() {
+        return "PersonTable: " + size + " people, " + genders.getNumValues() + " genders, "
+            + domains.getNumValues() + " domains";
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * A mergeable sketch of a distribution of non-negative values that answers quantile queries
+ * (median, 90th percentile, ...) with a bounded relative error, in the style of DDSketch.
+ * Values are counted in logarithmic buckets: bucket i holds the values between gamma^(i-1) and
+ * gamma^i, with gamma = (1 + accuracy) / (1 - accuracy), so any value read back from a bucket is
+ * within the relative accuracy of the true quantile. Zeros are counted on their own.
+ *
+ * The sketch never holds more than a fixed number of buckets, however many values are added;
+ * if the values span more buckets than that, the lowest buckets are folded together, which only
+ * makes the smallest quantiles less accurate. Two sketches with the same accuracy merge by
+ * adding their buckets, so sketches filled by separate threads can be combined at the end.
+ *
+ * @version 10/17/26
+ */
+import java.util.Arrays;
+public class QuantileSketch
+{
+    public static final double DEFAULT_ACCURACY = 0.01;
+    public static final int DEFAULT_MAX_BUCKETS = 2048;
+
+    // instance variables
+    private final double accuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final int maxBuckets;
+    // counts[i] is the number of values in bucket low + i
+    private long[] counts;
+    private int low;
+    // the lowest and highest bucket holding values, meaningless while bucketed is 0
+    private int minBucket;
+    private int maxBucket;
+    private long bucketed;
+    private long zeros;
+    private long count;
+    private double sum;
+    private double min;
+    private double max;
+
+    /**
+     * Constructor for objects of class QuantileSketch, with a relative accuracy of 1%
+     */
+    public QuantileSketch() {
+        this(DEFAULT_ACCURACY, DEFAULT_MAX_BUCKETS);
+    }
+
+    /**
+     * Constructor for objects of class QuantileSketch
+     * @param accuracy the relative error allowed in quantiles, between 0 and 1 (exclusive)
+     * @param maxBuckets the most buckets the sketch may hold
+     * @throws IllegalArgumentException if accuracy or maxBuckets is out of range
+     */
+    public QuantileSketch(double accuracy, int maxBuckets) {
+        if (!(accuracy > 0 && accuracy < 1) || maxBuckets < 1) {
+            throw new IllegalArgumentException("accuracy " + accuracy + ", maxBuckets " + maxBuckets);
+        }
+        this.accuracy = accuracy;
+        this.gamma = (1 + accuracy) / (1 - accuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxBuckets = maxBuckets;
+        this.counts = new long[Math.min(maxBuckets, 64)];
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Adds a value to the sketch
+     * @param value the value, which must not be negative
+     * @throws IllegalArgumentException if value is negative or NaN
+     */
+    public void add(double value) {
+        if (!(value >= 0)) {
+            throw new IllegalArgumentException("negative value " + value);
+        }
+        if (value == 0) {
+            zeros++;
+        } else {
+            addToBucket((int) Math.ceil(Math.log(value) / logGamma), 1);
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values of another sketch to this one
+     * @param other a sketch with the same accuracy
+     * @throws IllegalArgumentException if the accuracies differ
+     */
+    public void merge(QuantileSketch other) {
+        if (other.accuracy != accuracy) {
+            throw new IllegalArgumentException("accuracy " + other.accuracy + " instead of " + accuracy);
+        }
+        if (other.count == 0) {
+            return;
+        }
+        if (other.bucketed > 0) {
+            for (int b = other.minBucket; b <= other.maxBucket; b++) {
+                long c = other.counts[b - other.low];
+                if (c > 0) {
+                    addToBucket(b, c);
+                }
+            }
+        }
+        zeros += other.zeros;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Adds to the count of a bucket, moving or folding the buckets if it is not in the array yet
+     */
+    private void addToBucket(int bucket, long c) {
+        if (bucketed == 0) {
+            // no bucket holds a value yet: start the array at this bucket
+            Arrays.fill(counts, 0);
+            low = bucket;
+            minBucket = bucket;
+            maxBucket = bucket;
+        } else if (bucket < low || bucket >= low + counts.length) {
+            relayout(Math.min(minBucket, bucket), Math.max(maxBucket, bucket));
+        }
+        // buckets below the array were folded into its first bucket
+        bucket = Math.max(bucket, low);
+        counts[bucket - low] += c;
+        bucketed += c;
+        minBucket = Math.min(minBucket, bucket);
+        maxBucket = Math.max(maxBucket, bucket);
+    }
+
+    /**
+     * Moves the buckets to an array covering buckets first to last, folding the lowest ones
+     * together if that is more than maxBuckets
+     */
+    private void relayout(int first, int last) {
+        if (last - first + 1 > maxBuckets) {
+            first = last - maxBuckets + 1;
+        }
+        int length = Math.min(maxBuckets, Math.max(2 * counts.length, last - first + 1));
+        // leave room below when growing downward, above when growing upward
+        int newLow = first < minBucket ? last - length + 1 : first;
+        long[] moved = new long[length];
+        for (int b = minBucket; b <= maxBucket; b++) {
+            long c = counts[b - low];
+            if (c > 0) {
+                moved[Math.max(b, newLow) - newLow] += c;
+            }
+        }
+        counts = moved;
+        low = newLow;
+        minBucket = Math.max(minBucket, newLow);
+    }
+
+    /**
+     * Gets the number of values added
+     * @return the number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the exact smallest value added
+     * @return the minimum, or NaN if no value was added
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Gets the exact largest value added
+     * @return the maximum, or NaN if no value was added
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Gets the exact mean of the values added
+     * @return the mean, or NaN if no value was added
+     */
+    public double getMean() {
+        return sum / count;
+    }
+
+    /**
+     * Gets the relative accuracy of the quantiles
+     * @return the accuracy the sketch was created with
+     */
+    public double getAccuracy() {
+        return accuracy;
+    }
+
+    /**
+     * Gets an estimate of a quantile of the values added
+     * @param q the quantile, between 0 and 1 (0.5 for the median, 0.99 for the 99th percentile)
+     * @return a value within the relative accuracy of the value of rank q * (count - 1), or NaN if
+     * no value was added
+     */
+    public double getQuantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(Math.min(Math.max(q, 0), 1) * (count - 1));
+        if (rank < zeros) {
+            return 0;
+        }
+        long seen = zeros;
+        for (int b = minBucket; b <= maxBucket; b++) {
+            seen += counts[b - low];
+            if (seen > rank) {
+                // the middle of the bucket in relative terms, clamped to the values actually seen
+                double value = 2 * Math.pow(gamma, b) / (gamma + 1);
+                return Math.min(Math.max(value, min), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Describes the distribution in a few numbers
+     * @return the count, median, 90th and 99th percentile and maximum
+     */
+    public String toString() {
+        return String.format("n=%d p50=%.1f p90=%.1f p99=%.1f max=%.1f", count,
+            getQuantile(0.5), getQuantile(0.9), getQuantile(0.99), getMax());
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * The ways a breadth first search can expand its frontier, level by level.
+ *
+ * @version 10/17/26
+ */
+public enum SearchMode
+{
+    /** Scan the successors of every frontier vertex (the classic BFS). */
+    TOP_DOWN,
+    /** Scan the predecessors of every unvisited vertex, stopping at the first one in the frontier. */
+    BOTTOM_UP,
+    /**
+     * Start top-down and switch to bottom-up while the frontier touches a large share of the
+     * unexplored arcs, then back to top-down once it is small again.
+     */
+    DIRECTION_OPTIMIZING
+}
@@ -0,0 +1,319 @@
+/**
+ * The working memory of a graph search, kept between searches so that back-to-back searches
+ * allocate nothing. A vertex is visited when its mark equals the current epoch, so starting a
+ * new search only moves the epoch on instead of clearing an array. Visited vertices are kept
+ * in the order they were visited, which a breadth first search also uses as its queue; a depth
+ * first search keeps its path in an int stack, with a cursor per vertex pointing at the next
+ * arc to look at, so every adjacency list is scanned once. A bidirectional search also searches
+ * backward from the end vertex: those vertices are marked with the negated epoch, wait in a
+ * queue of their own, and every vertex visited from either end remembers its parent, the vertex
+ * next to it on the way back to the end it was reached from.
+ *
+ * A context can be used with any graph, and grows to the number of vertices of the largest one.
+ * It is not safe to share a context between threads running searches at the same time.
+ *
+ * @version 10/17/26
+ */
+import java.util.Arrays;
+public class TraversalContext
+{
+    // instance variables
+    private int[] marks;
+    private int epoch;
+    // visited vertices in visiting order; count is the number visited, head the front of the queue
+    private int[] order;
+    private int count;
+    private int head;
+    private int[] stack;
+    private int top;
+    private int[] cursors;
+    private int[] parents;
+    // vertices visited by the backward half of a bidirectional search, in visiting order
+    private int[] backOrder;
+    private int backCount;
+    private int backHead;
+    // the arc where the two halves of the last bidirectional search met, or -1
+    private int meetingFrom;
+    private int meetingTo;
+
+    /**
+     * Constructor for objects of class TraversalContext
+     * @param vertices the number of vertices of the graphs it will search
+     */
+    public TraversalContext(int vertices) {
+        this.marks = new int[vertices];
+        this.order = new int[vertices];
+        this.stack = new int[vertices];
+        this.cursors = new int[vertices];
+        this.parents = new int[vertices];
+        this.backOrder = new int[vertices];
+    }
+
+    /**
+     * Starts a new search, forgetting which vertices were visited by the previous one
+     * @param vertices the number of vertices of the graph about to be searched
+     */
+    public void begin(int vertices) {
+        if (marks.length < vertices) {
+            marks = new int[vertices];
+            order = new int[vertices];
+            stack = new int[vertices];
+            cursors = new int[vertices];
+            parents = new int[vertices];
+            backOrder = new int[vertices];
+            epoch = 0;
+        }
+        if (epoch == Integer.MAX_VALUE) {
+            // the marks of old searches could be mistaken for the new epoch once it wraps around
+            Arrays.fill(marks, 0);
+            epoch = 0;
+        }
+        epoch++;
+        count = 0;
+        head = 0;
+        top = 0;
+        backCount = 0;
+        backHead = 0;
+        meetingFrom = -1;
+        meetingTo = -1;
+    }
+
+    /**
+     * Visits a vertex if it has not been visited yet in this search
+     * @param vertex the index of the vertex
+     * @return true if the vertex was visited now, false if it had been already
+     */
+    public boolean visit(int vertex) {
+        if (marks[vertex] == epoch) {
+            return false;
+        }
+        marks[vertex] = epoch;
+        order[count++] = vertex;
+        return true;
+    }
+
+    /**
+     * Visits a vertex if it has not been visited yet in this search, remembering its parent
+     * @param vertex the index of the vertex
+     * @param parent the vertex it was reached from, or -1
+     * @return true if the vertex was visited now, false if it had been already
+     */
+    boolean visit(int vertex, int parent) {
+        if (!visit(vertex)) {
+            return false;
+        }
+        parents[vertex] = parent;
+        return true;
+    }
+
+    /**
+     * Visits a vertex from the end of a bidirectional search, if it has not been visited yet
+     * from either end
+     * @param vertex the index of the vertex
+     * @param parent the vertex after it on the way to the end vertex, or -1
+     * @return true if the vertex was visited now, false if it had been already
+     */
+    boolean visitBackward(int vertex, int parent) {
+        if (marks[vertex] == epoch || marks[vertex] == -epoch) {
+            return false;
+        }
+        marks[vertex] = -epoch;
+        parents[vertex] = parent;
+        backOrder[backCount++] = vertex;
+        return true;
+    }
+
+    /**
+     * Tells whether a vertex has been visited from the end of a bidirectional search
+     * @param vertex the index of the vertex
+     * @return true if the vertex has been visited backward
+     */
+    boolean isVisitedBackward(int vertex) {
+        return marks[vertex] == -epoch;
+    }
+
+    /**
+     * Gets the parent of a visited vertex
+     * @param vertex the index of the vertex
+     * @return the vertex it was reached from, or -1 for the vertices a search started from
+     */
+    int getParent(int vertex) {
+        return parents[vertex];
+    }
+
+    /**
+     * Tells whether a vertex has been visited in this search
+     * @param vertex the index of the vertex
+     * @return true if the vertex has been visited
+     */
+    public boolean isVisited(int vertex) {
+        return marks[vertex] == epoch;
+    }
+
+    /**
+     * Gets the number of vertices visited in this search
+     * @return the number of visited vertices
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of vertices visited from either end, which for a one-way search is the
+     * same as getCount()
+     * @return the number of vertices the search explored
+     */
+    public int getExplored() {
+        return count + backCount;
+    }
+
+    /**
+     * Gets a visited vertex by its position in the visiting order
+     * @param i the position, 0 to getCount() - 1
+     * @return the index of the i-th vertex visited
+     */
+    public int getVisited(int i) {
+        return order[i];
+    }
+
+    /**
+     * Gets the visiting order of this search
+     * @return a new array of the indices of the visited vertices, in the order they were visited
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(order, count);
+    }
+
+    /**
+     * Tells whether every visited vertex has left the queue
+     * @return true if the queue is empty
+     */
+    boolean isQueueEmpty() {
+        return head == count;
+    }
+
+    /**
+     * Takes the next vertex off the queue of visited vertices
+     * @return the earliest visited vertex that was not dequeued yet
+     */
+    int dequeue() {
+        return order[head++];
+    }
+
+    /**
+     * Gets the position of the front of the queue in the visiting order
+     * @return the number of vertices dequeued so far
+     */
+    int getHead() {
+        return head;
+    }
+
+    /**
+     * Tells whether every vertex visited backward has left the backward queue
+     * @return true if the backward queue is empty
+     */
+    boolean isBackwardQueueEmpty() {
+        return backHead == backCount;
+    }
+
+    /**
+     * Takes the next vertex off the backward queue
+     * @return the earliest vertex visited backward that was not dequeued yet
+     */
+    int dequeueBackward() {
+        return backOrder[backHead++];
+    }
+
+    /**
+     * Gets the position of the front of the backward queue
+     * @return the number of vertices dequeued backward so far
+     */
+    int getBackwardHead() {
+        return backHead;
+    }
+
+    /**
+     * Gets the number of vertices visited backward
+     * @return the position of the end of the backward queue
+     */
+    int getBackwardCount() {
+        return backCount;
+    }
+
+    /**
+     * Records the arc where the two halves of a bidirectional search met
+     * @param from the end of the arc visited from the start vertex
+     * @param to the end of the arc visited from the end vertex
+     */
+    void meet(int from, int to) {
+        meetingFrom = from;
+        meetingTo = to;
+    }
+
+    /**
+     * Gets the start of the arc where a bidirectional search met
+     * @return the vertex on the start side, or -1 if the search did not meet
+     */
+    int getMeetingFrom() {
+        return meetingFrom;
+    }
+
+    /**
+     * Gets the end of the arc where a bidirectional search met
+     * @return the vertex on the end side, or -1 if the search did not meet
+     */
+    int getMeetingTo() {
+        return meetingTo;
+    }
+
+    /**
+     * Pushes a vertex on the stack, pointing its cursor at its first arc
+     * @param vertex the index of the vertex
+     * @param firstArc the position of the first arc of vertex
+     */
+    void push(int vertex, int firstArc) {
+        stack[top++] = vertex;
+        cursors[vertex] = firstArc;
+    }
+
+    /**
+     * Gets the vertex on top of the stack
+     * @return the index of the vertex
+     */
+    int peek() {
+        return stack[top - 1];
+    }
+
+    /**
+     * Removes the vertex on top of the stack
+     */
+    void pop() {
+        top--;
+    }
+
+    /**
+     * Tells whether the stack is empty
+     * @return true if no vertex is on the stack
+     */
+    boolean isStackEmpty() {
+        return top == 0;
+    }
+
+    /**
+     * Moves the cursor of a vertex to its next arc
+     * @param vertex the index of the vertex
+     * @return the position of the arc the cursor was pointing at
+     */
+    int nextArc(int vertex) {
+        return cursors[vertex]++;
+    }
+
+    /**
+     * Gets the cursor of a vertex
+     * @param vertex the index of the vertex
+     * @return the position of the next arc of vertex to look at
+     */
+    int getCursor(int vertex) {
+        return cursors[vertex];
+    }
+}
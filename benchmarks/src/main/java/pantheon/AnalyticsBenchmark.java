@@ -0,0 +1,74 @@
+/**
+ * Benchmarks the analyses that were added on top of the original code: the bidirectional
+ * shortest path search and the gender cross-tab of every domain. These methods do not exist
+ * in older commits, so the baseline profile leaves this class out.
+ *
+ * @version 10/17/26
+ */
+package pantheon;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyticsBenchmark
+{
+    /**
+     * The random graph of GraphBenchmark, with the same search ends
+     */
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "1000", "10000", "100000" })
+        public int vertices;
+
+        // instance variables
+        AdjListsGraph<String> graph;
+        String source;
+        String target;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            graph = BenchmarkData.graph(vertices);
+            Random random = new Random(BenchmarkData.SEED);
+            source = BenchmarkData.name(random.nextInt(vertices));
+            target = BenchmarkData.name(random.nextInt(vertices));
+        }
+    }
+
+    /**
+     * The random table of people of GenderBenchmark
+     */
+    @State(Scope.Benchmark)
+    public static class PeopleState
+    {
+        @Param({ "1000", "100000", "1000000" })
+        public int people;
+
+        // instance variables
+        InvestigateGender investigation;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            File nodes = BenchmarkData.nodesCSV(people);
+            investigation = new InvestigateGender(nodes.getPath());
+        }
+    }
+
+    @Benchmark
+    public LinkedList<String> getShortestPath(GraphState state) {
+        return state.graph.getShortestPath(state.source, state.target);
+    }
+
+    @Benchmark
+    public CrossTab getGenderCrossTab(PeopleState state) {
+        return state.investigation.getGenderCrossTab(PersonTable.DOMAIN);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Seeded random inputs for the benchmarks: a graph whose arc ends are skewed toward a few
+ * popular people, like the Pantheon links, and the same graph or a table of people written to
+ * the CSV and TGF files the readers and builders take.
+ *
+ * @version 10/17/26
+ */
+package pantheon;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+class BenchmarkData
+{
+    // arcs per vertex, on average
+    static final int DEGREE = 8;
+    static final long SEED = 42;
+    static final String[] DOMAINS = { "ARTS", "HUMANITIES", "SCIENCE & TECHNOLOGY", "BUSINESS & LAW", "SPORTS" };
+
+    /**
+     * Gets the name of a person
+     * @param i the index of the person
+     * @return a unique name
+     */
+    static String name(int i) {
+        return "Person " + i;
+    }
+
+    /**
+     * Picks random arcs, the targets skewed toward low indices so some people get many links
+     * @param vertices the number of vertices
+     * @return {from, to}, DEGREE * vertices arcs
+     */
+    static int[][] arcs(int vertices) {
+        Random random = new Random(SEED);
+        int count = DEGREE * vertices;
+        int[] from = new int[count];
+        int[] to = new int[count];
+        for (int i = 0; i < count; i++) {
+            from[i] = random.nextInt(vertices);
+            double u = random.nextDouble();
+            to[i] = (int) (vertices * u * u * u);
+        }
+        return new int[][] { from, to };
+    }
+
+    /**
+     * Builds the random graph with the public AdjListsGraph methods
+     * @param vertices the number of vertices
+     * @return the graph
+     */
+    static AdjListsGraph<String> graph(int vertices) {
+        int[][] arcs = arcs(vertices);
+        AdjListsGraph<String> graph = new AdjListsGraph<String>();
+        for (int i = 0; i < vertices; i++) {
+            graph.addVertex(name(i));
+        }
+        for (int i = 0; i < arcs[0].length; i++) {
+            graph.addArc(name(arcs[0][i]), name(arcs[1][i]));
+        }
+        return graph;
+    }
+
+    /**
+     * Writes the random graph as a Pantheon edges CSV file
+     * @param vertices the number of vertices
+     * @return the file, deleted when the JVM exits
+     * @throws IOException if the file cannot be written
+     */
+    static File edgesCSV(int vertices) throws IOException {
+        int[][] arcs = arcs(vertices);
+        File file = File.createTempFile("edges", ".csv");
+        file.deleteOnExit();
+        Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+        try {
+            out.write("from_name,to_name,count\n");
+            for (int i = 0; i < arcs[0].length; i++) {
+                out.write(name(arcs[0][i]) + "," + name(arcs[1][i]) + ",1\n");
+            }
+        }
+        finally {
+            out.close();
+        }
+        return file;
+    }
+
+    /**
+     * Writes the random graph as a TGF file
+     * @param vertices the number of vertices
+     * @return the file, deleted when the JVM exits
+     * @throws IOException if the file cannot be created
+     */
+    static File tgf(int vertices) throws IOException {
+        File file = File.createTempFile("graph", ".tgf");
+        file.deleteOnExit();
+        graph(vertices).saveToTGF(file.getPath());
+        return file;
+    }
+
+    /**
+     * Writes a Pantheon nodes CSV file of random people, about 15% of them women
+     * @param people the number of people
+     * @return the file, deleted when the JVM exits
+     * @throws IOException if the file cannot be written
+     */
+    static File nodesCSV(int people) throws IOException {
+        Random random = new Random(SEED);
+        File file = File.createTempFile("nodes", ".csv");
+        file.deleteOnExit();
+        Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+        try {
+            out.write("en_curid,name,numlangs,birthcity,countryName,gender,birthyear,occupation,domain\n");
+            for (int i = 0; i < people; i++) {
+                String gender = random.nextInt(100) < 15 ? "Female" : "Male";
+                String domain = DOMAINS[random.nextInt(DOMAINS.length)];
+                out.write(i + "," + name(i) + ",10,City,Country," + gender + "," + (1000 + random.nextInt(1000)) + ",OCCUPATION," + domain + "\n");
+            }
+        }
+        finally {
+            out.close();
+        }
+        return file;
+    }
+
+    /**
+     * Silences System.out, which some of the benchmarked methods print to
+     * @return the stream to restore afterwards
+     */
+    static PrintStream silence() {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        return original;
+    }
+}
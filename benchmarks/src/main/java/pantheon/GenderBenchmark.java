@@ -0,0 +1,55 @@
+/**
+ * Benchmarks the gender statistics of InvestigateGender: the percentages of men and women in
+ * one domain. It only calls methods the original code already had, so it also runs against
+ * older commits.
+ *
+ * @version 10/17/26
+ */
+package pantheon;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenderBenchmark
+{
+    @Param({ "1000", "100000", "1000000" })
+    public int people;
+
+    // instance variables
+    private InvestigateGender investigation;
+    private PrintStream out;
+
+    /**
+     * Writes and reads the table of people
+     * @throws IOException if the file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File nodes = BenchmarkData.nodesCSV(people);
+        investigation = new InvestigateGender(nodes.getPath());
+        // getPercents prints a header on System.out
+        out = BenchmarkData.silence();
+    }
+
+    /**
+     * Restores System.out
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(out);
+    }
+
+    @Benchmark
+    public LinkedList<Float> getPercents() {
+        return investigation.getPercents("SCIENCE & TECHNOLOGY");
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Benchmarks the AdjListsGraph operations: building a graph with addVertex and addArc, looking
+ * arcs up with isArc, the degree queues, and the depth and breadth first searches. It only
+ * calls methods the original code already had, so it also runs against older commits.
+ *
+ * @version 10/17/26
+ */
+package pantheon;
+
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javafoundations.LinkedQueue;
+import org.openjdk.jmh.annotations.*;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark
+{
+    // arc lookups per isArc invocation
+    static final int LOOKUPS = 1024;
+
+    @Param({ "1000", "10000", "100000" })
+    public int vertices;
+
+    // instance variables
+    private int[][] arcs;
+    private String[] names;
+    private AdjListsGraph<String> graph;
+    private String[] lookupFrom;
+    private String[] lookupTo;
+    private String source;
+    private String target;
+
+    /**
+     * Builds the graph and picks the lookups and search ends
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        arcs = BenchmarkData.arcs(vertices);
+        names = new String[vertices];
+        for (int i = 0; i < vertices; i++) {
+            names[i] = BenchmarkData.name(i);
+        }
+        graph = BenchmarkData.graph(vertices);
+        Random random = new Random(BenchmarkData.SEED);
+        lookupFrom = new String[LOOKUPS];
+        lookupTo = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            // half of the lookups are arcs of the graph, half random pairs
+            int arc = random.nextInt(arcs[0].length);
+            lookupFrom[i] = names[arcs[0][arc]];
+            lookupTo[i] = i % 2 == 0 ? names[arcs[1][arc]] : names[random.nextInt(vertices)];
+        }
+        source = names[random.nextInt(vertices)];
+        target = names[random.nextInt(vertices)];
+    }
+
+    @Benchmark
+    public AdjListsGraph<String> addVertexAndArc() {
+        AdjListsGraph<String> built = new AdjListsGraph<String>();
+        for (int i = 0; i < vertices; i++) {
+            built.addVertex(names[i]);
+        }
+        for (int i = 0; i < arcs[0].length; i++) {
+            built.addArc(names[arcs[0][i]], names[arcs[1][i]]);
+        }
+        return built;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int isArc() {
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (graph.isArc(lookupFrom[i], lookupTo[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public LinkedQueue<Integer> getIndegrees() {
+        return graph.getIndegrees();
+    }
+
+    @Benchmark
+    public LinkedQueue<Integer> getOutdegrees() {
+        return graph.getOutdegrees();
+    }
+
+    @Benchmark
+    public LinkedList<String> depthFirstSearch() {
+        return graph.DepthFirstSearch(source, target);
+    }
+
+    @Benchmark
+    public LinkedList<String> breadthFirstSearch() {
+        return graph.BreadthFirstSearch(source, target);
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Benchmarks loading a graph from disk: GraphBuilder.build on a TGF file and GraphCreator.readFile
+ * on a Pantheon edges CSV file, both holding the same random graph.
+ *
+ * @version 10/17/26
+ */
+package pantheon;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReaderBenchmark
+{
+    @Param({ "1000", "10000", "100000" })
+    public int vertices;
+
+    // instance variables
+    private File tgf;
+    private File csv;
+    private GraphCreator creator;
+
+    /**
+     * Writes the input files
+     * @throws IOException if a file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tgf = BenchmarkData.tgf(vertices);
+        csv = BenchmarkData.edgesCSV(vertices);
+        creator = new GraphCreator(csv.getPath());
+    }
+
+    @Benchmark
+    public AdjListsGraph<String> buildFromTGF() {
+        return new StringGraphBuilder().build(tgf.getPath());
+    }
+
+    @Benchmark
+    public AdjListsGraph<String> readFileFromCSV() {
+        return creator.readFile();
+    }
+}